@@ -0,0 +1,136 @@
+package com.globaledge.academy.lms.assignment.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Indexes for the rule criteria queries of RuleEvaluationServiceImpl, which compare lower(column):
+ *  - a btree index on lower(column) for the free-text attributes a rule can target (EQUALS, NOT_EQUALS, IN),
+ *  - a pg_trgm GIN index on lower(column) for the same attributes (CONTAINS with a leading wildcard),
+ *  - a btree index on the enum attributes, which rules compare as constants, and on the date attributes.
+ *
+ * JPA @Index cannot declare expression or GIN indexes. They are created by the script
+ * db/rule-criteria-indexes.sql (run once per database, e.g. as part of a release) and checked at startup:
+ * 'assignment.rule.indexes.mode' = verify (default, only log the missing ones), create (build the missing
+ * ones, CONCURRENTLY so the table stays writable; needs the privilege to create the pg_trgm extension and
+ * should only be enabled on one instance) or off. PostgreSQL specific.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RuleCriteriaIndexInitializer implements ApplicationRunner {
+
+    /**
+     * Columns of the free-text attributes a rule can target.
+     */
+    private static final List<String> FREE_TEXT_COLUMNS = List.of(
+            "department", "designation", "office_location", "domain", "sub_domain");
+
+    /**
+     * Columns of the enum attributes (a handful of values each, no use for trigrams) and the date attributes.
+     */
+    private static final List<String> PLAIN_COLUMNS = List.of(
+            "work_mode", "employment_type", "gender", "status", "date_of_joining", "date_of_birth");
+
+    private static final String VALID_INDEXES_SQL = """
+            SELECT c.relname
+              FROM pg_index i
+              JOIN pg_class c ON c.oid = i.indexrelid
+             WHERE i.indrelid = 'employees'::regclass
+               AND i.indisvalid
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * verify | create | off
+     */
+    @Value("${assignment.rule.indexes.mode:verify}")
+    private String mode;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if ("off".equalsIgnoreCase(mode)) {
+            return;
+        }
+        try {
+            Map<String, String> required = requiredIndexes();
+            List<String> missing = findMissing(required);
+            if (!missing.isEmpty() && "create".equalsIgnoreCase(mode)) {
+                createIndexes(required, missing);
+                missing = findMissing(required);
+            }
+            if (missing.isEmpty()) {
+                log.info("All {} rule criteria indexes are present on employees", required.size());
+            } else {
+                log.warn("Rule criteria indexes missing on employees, rule evaluation will scan the table: {}. "
+                        + "Create them with db/rule-criteria-indexes.sql", missing);
+            }
+        } catch (Exception e) {
+            // Never block startup on an index check
+            log.warn("Could not check rule criteria indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Index name -> CREATE INDEX statement, in creation order; keep in line with db/rule-criteria-indexes.sql.
+     */
+    private static Map<String, String> requiredIndexes() {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        for (String column : FREE_TEXT_COLUMNS) {
+            indexes.put("idx_employee_lower_" + column,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_lower_%1$s ON employees (lower(%1$s))"
+                            .formatted(column));
+            indexes.put("idx_employee_trgm_" + column,
+                    ("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_trgm_%1$s ON employees "
+                            + "USING gin (lower(%1$s) gin_trgm_ops)").formatted(column));
+        }
+        for (String column : PLAIN_COLUMNS) {
+            indexes.put("idx_employee_" + column,
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_%1$s ON employees (%1$s)".formatted(column));
+        }
+        return indexes;
+    }
+
+    private List<String> findMissing(Map<String, String> required) {
+        Set<String> valid = new HashSet<>(jdbcTemplate.queryForList(VALID_INDEXES_SQL, String.class));
+        List<String> missing = new ArrayList<>();
+        for (String name : required.keySet()) {
+            if (!valid.contains(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * CONCURRENTLY cannot run in a transaction; JdbcTemplate statements auto-commit here.
+     * An index left INVALID by an interrupted build is dropped first, IF NOT EXISTS would keep it.
+     */
+    private void createIndexes(Map<String, String> required, List<String> missing) {
+        if (missing.stream().anyMatch(name -> name.startsWith("idx_employee_trgm_"))) {
+            try {
+                jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            } catch (Exception e) {
+                log.warn("pg_trgm extension not available, CONTAINS criteria will scan the table: {}", e.getMessage());
+            }
+        }
+        for (String name : missing) {
+            long start = System.currentTimeMillis();
+            try {
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+                jdbcTemplate.execute(required.get(name));
+                log.info("Created rule criteria index {} in {} ms", name, System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                log.warn("Could not create rule criteria index {}: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -67,10 +67,17 @@ public class AssignmentRuleController {
     }
 
     @Operation(summary = "Preview Rule",
-            description = "See which employees will match the rule criteria without creating enrollments")
+            description = "See which employees will match the rule criteria without creating enrollments. " +
+                    "Counts cover all matches; the employee list is paged. sortBy: employeeId, firstName, " +
+                    "lastName, email, department, designation or location")
     @PostMapping("/preview")
-    public ResponseEntity<RulePreviewDto> previewRule(@RequestBody AssignmentRuleDto ruleDto) {
-        return ResponseEntity.ok(assignmentRuleService.previewRule(ruleDto));
+    public ResponseEntity<RulePreviewDto> previewRule(
+            @RequestBody AssignmentRuleDto ruleDto,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "employeeId") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(assignmentRuleService.previewRule(ruleDto, page, size, sortBy, direction));
     }
 
     @Operation(summary = "Execute Rule Manually",
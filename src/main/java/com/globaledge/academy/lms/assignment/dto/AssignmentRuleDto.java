@@ -24,6 +24,7 @@ public class AssignmentRuleDto {
     private Integer dueDays;  // Days from assignment to due date
     private ExecutionFrequency executionFrequency;
     private LocalDateTime lastExecutedAt;
+    private LocalDateTime nextExecutionAt;
     private Integer lastMatchedCount;
     private String matchLogic;  // "AND" or "OR"
     private List<RuleCriterionDto> criteria;
@@ -13,6 +13,9 @@ public class RulePreviewDto {
     private int totalMatched;
     private int alreadyEnrolled;
     private int willBeEnrolled;
-    private List<MatchedEmployeeDto> matchedEmployees;
+    private List<MatchedEmployeeDto> matchedEmployees;  // Current page only
+    private int page;
+    private int size;
+    private int totalPages;
     private String generatedQuery;  // For debugging
 }
\ No newline at end of file
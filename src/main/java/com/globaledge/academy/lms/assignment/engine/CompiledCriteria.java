@@ -0,0 +1,14 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import java.util.List;
+
+/**
+ * The compiled form of a rule's criteria, produced by {@link RuleCompiler}.
+ *
+ * @param ruleId          rule ID, null for rules that are not saved (preview)
+ * @param criteriaVersion CourseAssignmentRule.criteriaVersion the criteria were compiled from
+ * @param matchAny        true for OR match logic, false for AND
+ * @param criteria        the criteria; empty means nothing matches
+ */
+public record CompiledCriteria(Long ruleId, int criteriaVersion, boolean matchAny, List<CompiledCriterion> criteria) {
+}
@@ -0,0 +1,27 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import com.globaledge.academy.lms.assignment.enums.FieldOperator;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * A validated rule criterion with its value parsed once, at compile time.
+ *
+ * @param fieldName  Employee attribute, resolved against the JPA metamodel
+ * @param kind       type of the attribute
+ * @param operator   operator, valid for the kind
+ * @param text       single text value: lower-cased, except for range comparisons on TEXT (compared as stored)
+ * @param texts      lower-cased values of IN / NOT_IN
+ * @param enumValues enum constants of EQUALS / NOT_EQUALS / IN / NOT_IN on ENUM attributes
+ * @param date       value of DATE criteria
+ */
+public record CompiledCriterion(String fieldName, Kind kind, FieldOperator operator, String text,
+                                Set<String> texts, Set<Enum<?>> enumValues, LocalDate date) {
+
+    public enum Kind {
+        TEXT,
+        ENUM,
+        DATE
+    }
+}
@@ -0,0 +1,41 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A rule's criteria turned into bitmap operations over an {@link EmployeeSnapshot}.
+ * Each criterion yields the BitSet of matching rows; the bitmaps are combined with AND or OR.
+ */
+public final class CompiledRule {
+
+    private final List<Function<EmployeeSnapshot, BitSet>> criteria;
+    private final boolean matchAny;
+
+    CompiledRule(List<Function<EmployeeSnapshot, BitSet>> criteria, boolean matchAny) {
+        this.criteria = criteria;
+        this.matchAny = matchAny;
+    }
+
+    /**
+     * @return the matching rows of the snapshot; empty if the rule has no usable criteria
+     */
+    public BitSet evaluate(EmployeeSnapshot snapshot) {
+        BitSet result = null;
+        for (Function<EmployeeSnapshot, BitSet> criterion : criteria) {
+            BitSet rows = criterion.apply(snapshot);
+            if (result == null) {
+                result = rows;
+            } else if (matchAny) {
+                result.or(rows);
+            } else {
+                result.and(rows);
+            }
+            if (!matchAny && result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+}
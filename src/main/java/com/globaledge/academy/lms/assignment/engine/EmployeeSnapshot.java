@@ -0,0 +1,227 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, columnar in-memory copy of the employee attributes that assignment rules can target.
+ *
+ * Text attributes are dictionary-encoded: each distinct (lower-cased) value is stored once and
+ * every row holds an int code, so a criterion is tested once per distinct value and then applied
+ * to the rows with a single scan of the code array. Dates are stored as epoch days.
+ * Matches are returned as a BitSet of row positions, filled a 64-bit word at a time;
+ * {@link #employeeIds(BitSet)} maps them back.
+ *
+ * Snapshots are produced by {@link Builder#build()}; readers never see a snapshot change.
+ */
+public final class EmployeeSnapshot {
+
+    /**
+     * Text attributes (Employee field name -> employees column), compared case-insensitively like the Criteria queries.
+     */
+    public static final Map<String, String> TEXT_COLUMNS = orderedMap(
+            "department", "department",
+            "designation", "designation",
+            "officeLocation", "office_location",
+            "domain", "domain",
+            "subDomain", "sub_domain",
+            "workMode", "work_mode",
+            "employmentType", "employment_type",
+            "gender", "gender",
+            "status", "status");
+
+    /**
+     * Date attributes (Employee field name -> employees column).
+     */
+    public static final Map<String, String> DATE_COLUMNS = orderedMap(
+            "dateOfJoining", "date_of_joining",
+            "dateOfBirth", "date_of_birth");
+
+    static final int NULL_CODE = -1;
+    static final int NULL_DAY = Integer.MIN_VALUE;
+
+    private final int size;
+    private final long[] ids;
+    private final Map<String, TextColumn> textColumns;
+    private final Map<String, int[]> dateColumns;
+
+    private EmployeeSnapshot(int size, long[] ids, Map<String, TextColumn> textColumns, Map<String, int[]> dateColumns) {
+        this.size = size;
+        this.ids = ids;
+        this.textColumns = textColumns;
+        this.dateColumns = dateColumns;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public static boolean isTextColumn(String fieldName) {
+        return TEXT_COLUMNS.containsKey(fieldName);
+    }
+
+    public static boolean isDateColumn(String fieldName) {
+        return DATE_COLUMNS.containsKey(fieldName);
+    }
+
+    /**
+     * Rows whose (lower-cased) value passes the test; rows without a value never match.
+     */
+    public BitSet matchText(String fieldName, Predicate<String> valueTest) {
+        TextColumn column = textColumns.get(fieldName);
+        boolean[] matchingCodes = new boolean[column.dictionary.length];
+        boolean any = false;
+        for (int code = 0; code < column.dictionary.length; code++) {
+            matchingCodes[code] = valueTest.test(column.dictionary[code]);
+            any |= matchingCodes[code];
+        }
+
+        if (!any) {
+            return new BitSet();
+        }
+        int[] codes = column.codes;
+        long[] words = new long[(size + 63) >>> 6];
+        for (int row = 0; row < size; row++) {
+            int code = codes[row];
+            if (code != NULL_CODE && matchingCodes[code]) {
+                words[row >>> 6] |= 1L << row;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Rows whose date (as epoch day) passes the test; rows without a date never match.
+     */
+    public BitSet matchDate(String fieldName, IntPredicate epochDayTest) {
+        int[] days = dateColumns.get(fieldName);
+        long[] words = new long[(size + 63) >>> 6];
+        for (int row = 0; row < size; row++) {
+            int day = days[row];
+            if (day != NULL_DAY && epochDayTest.test(day)) {
+                words[row >>> 6] |= 1L << row;
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return employees.id of the given rows, in row order
+     */
+    public List<Long> employeeIds(BitSet rows) {
+        List<Long> result = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            result.add(ids[row]);
+        }
+        return result;
+    }
+
+    private record TextColumn(String[] dictionary, int[] codes) {
+    }
+
+    private static Map<String, String> orderedMap(String... keysAndValues) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Mutable master copy. Rows are inserted or replaced by employees.id; each {@link #build()}
+     * copies the arrays into a new immutable snapshot, so refreshes never disturb running evaluations.
+     * Not thread-safe; callers serialize access.
+     */
+    public static final class Builder {
+
+        private final Map<Long, Integer> rowById = new HashMap<>();
+        private final Map<String, List<String>> dictionaries = new HashMap<>();
+        private final Map<String, Map<String, Integer>> codesByValue = new HashMap<>();
+        private final Map<String, int[]> textCodes = new HashMap<>();
+        private final Map<String, int[]> dateDays = new HashMap<>();
+        private long[] ids = new long[1024];
+        private int size;
+
+        public Builder() {
+            for (String field : TEXT_COLUMNS.keySet()) {
+                dictionaries.put(field, new ArrayList<>());
+                codesByValue.put(field, new HashMap<>());
+                textCodes.put(field, new int[ids.length]);
+            }
+            for (String field : DATE_COLUMNS.keySet()) {
+                dateDays.put(field, new int[ids.length]);
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Inserts or replaces one employee.
+         *
+         * @param textValues Values of {@link #TEXT_COLUMNS}, in declaration order
+         * @param dates Values of {@link #DATE_COLUMNS}, in declaration order
+         */
+        public void upsert(long id, String[] textValues, LocalDate[] dates) {
+            Integer existing = rowById.get(id);
+            int row;
+            if (existing != null) {
+                row = existing;
+            } else {
+                row = size++;
+                ensureCapacity(size);
+                ids[row] = id;
+                rowById.put(id, row);
+            }
+
+            int i = 0;
+            for (String field : TEXT_COLUMNS.keySet()) {
+                textCodes.get(field)[row] = encode(field, textValues[i++]);
+            }
+            i = 0;
+            for (String field : DATE_COLUMNS.keySet()) {
+                LocalDate date = dates[i++];
+                dateDays.get(field)[row] = date == null ? NULL_DAY : Math.toIntExact(date.toEpochDay());
+            }
+        }
+
+        public EmployeeSnapshot build() {
+            Map<String, TextColumn> textColumns = new HashMap<>();
+            for (String field : TEXT_COLUMNS.keySet()) {
+                textColumns.put(field, new TextColumn(
+                        dictionaries.get(field).toArray(String[]::new),
+                        Arrays.copyOf(textCodes.get(field), size)));
+            }
+            Map<String, int[]> dateColumns = new HashMap<>();
+            for (String field : DATE_COLUMNS.keySet()) {
+                dateColumns.put(field, Arrays.copyOf(dateDays.get(field), size));
+            }
+            return new EmployeeSnapshot(size, Arrays.copyOf(ids, size), textColumns, dateColumns);
+        }
+
+        private int encode(String field, String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            String normalized = value.toLowerCase(Locale.ROOT);
+            return codesByValue.get(field).computeIfAbsent(normalized, v -> {
+                List<String> dictionary = dictionaries.get(field);
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            textCodes.replaceAll((field, codes) -> Arrays.copyOf(codes, capacity));
+            dateDays.replaceAll((field, days) -> Arrays.copyOf(days, capacity));
+        }
+    }
+}
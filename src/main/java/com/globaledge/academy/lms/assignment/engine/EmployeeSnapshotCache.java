@@ -0,0 +1,136 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Holds the current {@link EmployeeSnapshot} for the in-memory rule engine.
+ *
+ * The snapshot is loaded on first use and then refreshed incrementally every
+ * 'assignment.rule.engine.refresh-interval-ms': only employees whose updated_at moved past the
+ * watermark are read and upserted. Deleted employees cannot be seen through updated_at, so the
+ * snapshot is rebuilt from scratch every 'assignment.rule.engine.full-refresh-interval-minutes'.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "assignment.rule.engine", havingValue = "in-memory")
+public class EmployeeSnapshotCache {
+
+    private static final String SELECT_COLUMNS = "SELECT id, updated_at, "
+            + String.join(", ", EmployeeSnapshot.TEXT_COLUMNS.values()) + ", "
+            + String.join(", ", EmployeeSnapshot.DATE_COLUMNS.values())
+            + " FROM employees";
+
+    private static final String FULL_LOAD_SQL = SELECT_COLUMNS;
+
+    private static final String CHANGED_SINCE_SQL = SELECT_COLUMNS + " WHERE updated_at > ?";
+
+    private static final LocalDateTime NO_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${assignment.rule.engine.full-refresh-interval-minutes:60}")
+    private int fullRefreshIntervalMinutes;
+
+    /**
+     * Changes are re-read this far behind the watermark, for transactions that commit late.
+     */
+    @Value("${assignment.rule.evaluation.overlap-minutes:5}")
+    private int overlapMinutes;
+
+    @Value("${assignment.rule.fetch-size:1000}")
+    private int fetchSize;
+
+    private volatile EmployeeSnapshot snapshot;
+    private EmployeeSnapshot.Builder builder;
+    private LocalDateTime watermark;
+    private LocalDateTime lastFullLoad;
+
+    /**
+     * @return the current snapshot, loading it if this is the first use
+     */
+    public EmployeeSnapshot getSnapshot() {
+        EmployeeSnapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${assignment.rule.engine.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        boolean full = builder == null
+                || lastFullLoad.isBefore(LocalDateTime.now().minusMinutes(fullRefreshIntervalMinutes));
+
+        int rows;
+        if (full) {
+            EmployeeSnapshot.Builder fresh = new EmployeeSnapshot.Builder();
+            LocalDateTime loadStarted = LocalDateTime.now();
+            rows = load(fresh, FULL_LOAD_SQL, null);
+            builder = fresh;
+            lastFullLoad = loadStarted;
+        } else {
+            LocalDateTime changedSince = watermark == null ? NO_WATERMARK : watermark.minusMinutes(overlapMinutes);
+            rows = load(builder, CHANGED_SINCE_SQL, changedSince);
+            if (rows == 0) {
+                return;
+            }
+        }
+        snapshot = builder.build();
+
+        log.info("{} employee snapshot refresh: {} rows read, {} employees in snapshot, {} ms",
+                full ? "Full" : "Incremental", rows, snapshot.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Upserts the selected rows into the builder and advances the watermark to the newest updated_at seen.
+     */
+    private int load(EmployeeSnapshot.Builder target, String sql, LocalDateTime changedSince) {
+        int textCount = EmployeeSnapshot.TEXT_COLUMNS.size();
+        int dateCount = EmployeeSnapshot.DATE_COLUMNS.size();
+        int[] rows = {0};
+
+        RowCallbackHandler handler = rs -> {
+            String[] text = new String[textCount];
+            for (int i = 0; i < textCount; i++) {
+                text[i] = rs.getString(3 + i);
+            }
+            LocalDate[] dates = new LocalDate[dateCount];
+            for (int i = 0; i < dateCount; i++) {
+                Date date = rs.getDate(3 + textCount + i);
+                dates[i] = date == null ? null : date.toLocalDate();
+            }
+            target.upsert(rs.getLong(1), text, dates);
+
+            Timestamp updatedAt = rs.getTimestamp(2);
+            if (updatedAt != null && (watermark == null || updatedAt.toLocalDateTime().isAfter(watermark))) {
+                watermark = updatedAt.toLocalDateTime();
+            }
+            rows[0]++;
+        };
+
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setFetchSize(fetchSize);
+            if (changedSince != null) {
+                ps.setTimestamp(1, Timestamp.valueOf(changedSince));
+            }
+            return ps;
+        }, handler);
+        return rows[0];
+    }
+}
@@ -0,0 +1,245 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import com.globaledge.academy.lms.assignment.engine.CompiledCriterion.Kind;
+import com.globaledge.academy.lms.assignment.entity.CourseAssignmentRule;
+import com.globaledge.academy.lms.assignment.entity.RuleCriterion;
+import com.globaledge.academy.lms.assignment.enums.FieldOperator;
+import com.globaledge.academy.lms.assignment.exception.InvalidRuleCriteriaException;
+import com.globaledge.academy.lms.employee.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validates a rule's criteria and parses their values into typed constants:
+ *  - field names are resolved against the Employee metamodel ("location" stands for officeLocation); only basic text, enum and date attributes qualify
+ *  - each operator must fit the attribute type (no CONTAINS on dates, no range comparison on enums)
+ *  - dates are parsed, enum values checked against the constants, lists split and lower-cased
+ * All problems of a rule are reported together in one InvalidRuleCriteriaException.
+ *
+ * Compiled criteria of saved rules are cached by rule ID when they are evaluated; an entry is reused
+ * as long as the rule's criteriaVersion is unchanged, so an edit (on any instance) is picked up on the
+ * next evaluation.
+ */
+@Component
+@RequiredArgsConstructor
+public class RuleCompiler {
+
+    private static final Set<FieldOperator> RANGE_OPERATORS = EnumSet.of(
+            FieldOperator.GREATER_THAN, FieldOperator.LESS_THAN,
+            FieldOperator.GREATER_THAN_EQUAL, FieldOperator.LESS_THAN_EQUAL);
+
+    /**
+     * Field names used by clients (and MatchedEmployeeDto) that differ from the Employee attribute.
+     */
+    private static final Map<String, String> FIELD_ALIASES = Map.of("location", "officeLocation");
+
+    private final EntityManager entityManager;
+
+    private final Map<Long, CompiledCriteria> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @return the compiled criteria, from the cache when the rule's criteria version matches
+     * @throws InvalidRuleCriteriaException if any criterion is invalid
+     */
+    public CompiledCriteria compile(CourseAssignmentRule rule) {
+        int version = rule.getCriteriaVersion() == null ? 0 : rule.getCriteriaVersion();
+        if (rule.getRuleId() == null) {
+            return doCompile(rule, version);
+        }
+        CompiledCriteria cached = cache.get(rule.getRuleId());
+        if (cached != null && cached.criteriaVersion() == version) {
+            return cached;
+        }
+        CompiledCriteria compiled = doCompile(rule, version);
+        cache.put(rule.getRuleId(), compiled);
+        return compiled;
+    }
+
+    /**
+     * Compiles without touching the cache, for criteria that are not committed yet (save time).
+     * Caching them could leave an entry for a version that is rolled back and later reused.
+     *
+     * @throws InvalidRuleCriteriaException if any criterion is invalid
+     */
+    public CompiledCriteria validate(CourseAssignmentRule rule) {
+        return doCompile(rule, rule.getCriteriaVersion() == null ? 0 : rule.getCriteriaVersion());
+    }
+
+    public void evict(Long ruleId) {
+        cache.remove(ruleId);
+    }
+
+    private CompiledCriteria doCompile(CourseAssignmentRule rule, int version) {
+        List<String> errors = new ArrayList<>();
+
+        String matchLogic = rule.getMatchLogic() == null ? "AND" : rule.getMatchLogic().trim();
+        if (!"AND".equalsIgnoreCase(matchLogic) && !"OR".equalsIgnoreCase(matchLogic)) {
+            errors.add("Match logic must be AND or OR, got '" + rule.getMatchLogic() + "'");
+        }
+
+        EntityType<Employee> employeeType = entityManager.getMetamodel().entity(Employee.class);
+        List<CompiledCriterion> criteria = new ArrayList<>();
+        if (rule.getCriteria() != null) {
+            int position = 1;
+            for (RuleCriterion criterion : rule.getCriteria()) {
+                CompiledCriterion compiled = compileCriterion(employeeType, criterion, "Criterion " + position++, errors);
+                if (compiled != null) {
+                    criteria.add(compiled);
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new InvalidRuleCriteriaException(String.join("; ", errors));
+        }
+        return new CompiledCriteria(rule.getRuleId(), version, "OR".equalsIgnoreCase(matchLogic), List.copyOf(criteria));
+    }
+
+    private CompiledCriterion compileCriterion(EntityType<Employee> employeeType, RuleCriterion criterion,
+                                               String label, List<String> errors) {
+        if (criterion.getFieldName() == null) {
+            errors.add(label + ": field is required");
+            return null;
+        }
+        String fieldName = FIELD_ALIASES.getOrDefault(criterion.getFieldName(), criterion.getFieldName());
+        FieldOperator operator = criterion.getOperator();
+        String value = criterion.getFieldValue() == null ? "" : criterion.getFieldValue().trim();
+
+        Attribute<? super Employee, ?> attribute;
+        try {
+            attribute = employeeType.getAttribute(fieldName);
+        } catch (IllegalArgumentException e) {
+            errors.add(label + ": unknown field '" + criterion.getFieldName() + "'");
+            return null;
+        }
+        Kind kind = kindOf(attribute);
+        if (kind == null) {
+            errors.add(label + ": field '" + fieldName + "' cannot be used in rules");
+            return null;
+        }
+        if (operator == null) {
+            errors.add(label + ": operator is required");
+            return null;
+        }
+        if (value.isEmpty()) {
+            errors.add(label + ": value is required");
+            return null;
+        }
+
+        switch (kind) {
+            case DATE -> {
+                if (operator != FieldOperator.EQUALS && operator != FieldOperator.NOT_EQUALS
+                        && !RANGE_OPERATORS.contains(operator)) {
+                    errors.add(label + ": " + operator + " is not supported on date field '" + fieldName + "'");
+                    return null;
+                }
+                try {
+                    return new CompiledCriterion(fieldName, kind, operator, null, null, null, LocalDate.parse(value));
+                } catch (DateTimeParseException e) {
+                    errors.add(label + ": '" + value + "' is not a date (yyyy-MM-dd)");
+                    return null;
+                }
+            }
+            case ENUM -> {
+                if (RANGE_OPERATORS.contains(operator)) {
+                    errors.add(label + ": " + operator + " is not supported on field '" + fieldName + "'");
+                    return null;
+                }
+                if (operator == FieldOperator.CONTAINS || operator == FieldOperator.NOT_CONTAINS) {
+                    return new CompiledCriterion(fieldName, kind, operator, value.toLowerCase(Locale.ROOT), null, null, null);
+                }
+                Set<String> texts = splitValues(value);
+                if (texts.isEmpty()) {
+                    errors.add(label + ": value list is empty");
+                    return null;
+                }
+                Set<Enum<?>> constants = new LinkedHashSet<>();
+                for (String text : texts) {
+                    Enum<?> constant = enumConstant(attribute.getJavaType(), text);
+                    if (constant == null) {
+                        errors.add(label + ": '" + text + "' is not a valid " + fieldName + " (allowed: "
+                                + enumNames(attribute.getJavaType()) + ")");
+                        return null;
+                    }
+                    constants.add(constant);
+                }
+                if (!isList(operator) && constants.size() > 1) {
+                    errors.add(label + ": " + operator + " takes a single value, use IN for a list");
+                    return null;
+                }
+                return new CompiledCriterion(fieldName, kind, operator, texts.iterator().next(),
+                        texts, Collections.unmodifiableSet(constants), null);
+            }
+            default -> {
+                if (isList(operator)) {
+                    Set<String> texts = splitValues(value);
+                    if (texts.isEmpty()) {
+                        errors.add(label + ": value list is empty");
+                        return null;
+                    }
+                    return new CompiledCriterion(fieldName, kind, operator, null, texts, null, null);
+                }
+                String text = RANGE_OPERATORS.contains(operator) ? value : value.toLowerCase(Locale.ROOT);
+                return new CompiledCriterion(fieldName, kind, operator, text, null, null, null);
+            }
+        }
+    }
+
+    private static Kind kindOf(Attribute<? super Employee, ?> attribute) {
+        if (attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+            return null;
+        }
+        Class<?> type = attribute.getJavaType();
+        if (type == String.class) {
+            return Kind.TEXT;
+        }
+        if (type.isEnum()) {
+            return Kind.ENUM;
+        }
+        if (type == LocalDate.class) {
+            return Kind.DATE;
+        }
+        return null;
+    }
+
+    private static boolean isList(FieldOperator operator) {
+        return operator == FieldOperator.IN || operator == FieldOperator.NOT_IN;
+    }
+
+    private static Set<String> splitValues(String value) {
+        Set<String> values = new LinkedHashSet<>();
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed.toLowerCase(Locale.ROOT));
+            }
+        }
+        return Collections.unmodifiableSet(values);
+    }
+
+    private static Enum<?> enumConstant(Class<?> enumType, String lowerName) {
+        for (Object constant : enumType.getEnumConstants()) {
+            Enum<?> e = (Enum<?>) constant;
+            if (e.name().toLowerCase(Locale.ROOT).equals(lowerName)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private static String enumNames(Class<?> enumType) {
+        StringJoiner names = new StringJoiner(", ");
+        for (Object constant : enumType.getEnumConstants()) {
+            names.add(((Enum<?>) constant).name());
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.globaledge.academy.lms.assignment.engine;
+
+import com.globaledge.academy.lms.assignment.enums.FieldOperator;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Turns compiled criteria (see {@link RuleCompiler}) into a {@link CompiledRule} with the same
+ * semantics as the Criteria API predicates of RuleEvaluationServiceImpl:
+ *  - text and enum comparisons are case-insensitive, and an empty value never matches, not even NOT_EQUALS / NOT_IN
+ *  - CONTAINS / NOT_CONTAINS compare literally; the database escapes % and _ in its LIKE pattern
+ *  - date attributes support equality and the range operators
+ *
+ * Criteria the snapshot cannot answer (attributes outside the snapshot, or range operators on text)
+ * make the whole rule unsupported; callers then evaluate it in the database.
+ */
+public final class SnapshotRuleCompiler {
+
+    /**
+     * Marker for criteria that cannot be evaluated on the snapshot.
+     */
+    private static final Function<EmployeeSnapshot, BitSet> UNSUPPORTED = snapshot -> new BitSet();
+
+    private SnapshotRuleCompiler() {
+    }
+
+    /**
+     * @return the compiled rule, or empty if it must be evaluated in the database
+     */
+    public static Optional<CompiledRule> compile(CompiledCriteria compiledCriteria) {
+        List<Function<EmployeeSnapshot, BitSet>> criteria = new ArrayList<>();
+        for (CompiledCriterion criterion : compiledCriteria.criteria()) {
+            Function<EmployeeSnapshot, BitSet> compiled = compileCriterion(criterion);
+            if (compiled == UNSUPPORTED) {
+                return Optional.empty();
+            }
+            criteria.add(compiled);
+        }
+        return Optional.of(new CompiledRule(criteria, compiledCriteria.matchAny()));
+    }
+
+    private static Function<EmployeeSnapshot, BitSet> compileCriterion(CompiledCriterion criterion) {
+        String field = criterion.fieldName();
+        if (criterion.kind() == CompiledCriterion.Kind.DATE) {
+            return EmployeeSnapshot.isDateColumn(field) ? compileDate(field, criterion) : UNSUPPORTED;
+        }
+        return EmployeeSnapshot.isTextColumn(field) ? compileText(field, criterion) : UNSUPPORTED;
+    }
+
+    private static Function<EmployeeSnapshot, BitSet> compileText(String field, CompiledCriterion criterion) {
+        String lower = criterion.text();
+        Set<String> values = criterion.texts();
+        switch (criterion.operator()) {
+            case EQUALS:
+                return snapshot -> snapshot.matchText(field, lower::equals);
+            case NOT_EQUALS:
+                return snapshot -> snapshot.matchText(field, v -> !v.equals(lower));
+            case CONTAINS:
+                return snapshot -> snapshot.matchText(field, v -> v.contains(lower));
+            case NOT_CONTAINS:
+                return snapshot -> snapshot.matchText(field, v -> !v.contains(lower));
+            case IN:
+                return snapshot -> snapshot.matchText(field, values::contains);
+            case NOT_IN:
+                return snapshot -> snapshot.matchText(field, v -> !values.contains(v));
+            default:
+                // Range comparisons on text depend on the database collation
+                return UNSUPPORTED;
+        }
+    }
+
+    private static Function<EmployeeSnapshot, BitSet> compileDate(String field, CompiledCriterion criterion) {
+        int day = Math.toIntExact(criterion.date().toEpochDay());
+        FieldOperator operator = criterion.operator();
+        return switch (operator) {
+            case EQUALS -> snapshot -> snapshot.matchDate(field, d -> d == day);
+            case NOT_EQUALS -> snapshot -> snapshot.matchDate(field, d -> d != day);
+            case GREATER_THAN -> snapshot -> snapshot.matchDate(field, d -> d > day);
+            case LESS_THAN -> snapshot -> snapshot.matchDate(field, d -> d < day);
+            case GREATER_THAN_EQUAL -> snapshot -> snapshot.matchDate(field, d -> d >= day);
+            case LESS_THAN_EQUAL -> snapshot -> snapshot.matchDate(field, d -> d <= day);
+            default -> UNSUPPORTED;
+        };
+    }
+}
@@ -6,6 +6,7 @@ import com.globaledge.academy.lms.course.entity.Course;
 import com.globaledge.academy.lms.enrollment.enums.EnrollmentType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -13,7 +14,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "course_assignment_rules")
+@Table(name = "course_assignment_rules", indexes = {
+        @Index(name = "idx_rule_next_execution", columnList = "rule_status, next_execution_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -60,8 +63,22 @@ public class CourseAssignmentRule {
 
     private LocalDateTime lastExecutedAt;
 
+    private LocalDateTime nextExecutionAt;  // Next scheduled run (DAILY, WEEKLY, MONTHLY); null otherwise
+
+    private LocalDateTime scheduleAnchorAt;  // First slot of the schedule; runs are whole days / weeks / months after it
+
+    private LocalDateTime lastReconciledAt;  // Last run that evaluated all employees (not only changed ones)
+
     private Integer lastMatchedCount;
 
+    /**
+     * Incremented whenever the criteria or match logic change; keys the compiled criteria cache.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer criteriaVersion = 0;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
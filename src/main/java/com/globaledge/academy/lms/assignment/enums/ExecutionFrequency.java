@@ -1,10 +1,58 @@
 // 🎯 assignment/enums/ExecutionFrequency.java
 package com.globaledge.academy.lms.assignment.enums;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
 public enum ExecutionFrequency {
     IMMEDIATE,           // Execute once immediately when course is published
     DAILY,               // Execute every day at scheduled time
     WEEKLY,              // Execute every week
     MONTHLY,             // Execute every month
-    ON_NEW_EMPLOYEE      // Execute when new employee joins
-}
\ No newline at end of file
+    ON_NEW_EMPLOYEE;     // Execute when new employee joins
+
+    /**
+     * @return true for frequencies run by the scheduler (DAILY, WEEKLY, MONTHLY)
+     */
+    public boolean isPeriodic() {
+        return this == DAILY || this == WEEKLY || this == MONTHLY;
+    }
+
+    /**
+     * First scheduled run of a new or re-activated rule: the next slot at the scheduled time of day.
+     *
+     * @return null for frequencies that are not time-based
+     */
+    public LocalDateTime firstExecutionAfter(LocalDateTime now, LocalTime scheduledTime) {
+        return isPeriodic() ? nextSlot(now, scheduledTime) : null;
+    }
+
+    /**
+     * Next scheduled run after an execution: the first slot after it that is a whole number of days /
+     * weeks / months after the anchor (the schedule's first slot), at the scheduled time of day.
+     * Late runs do not shift the schedule and never cause a double run; MONTHLY keeps the anchor's
+     * day of month and falls on the last day of shorter months (31st -> Feb 28 -> Mar 31).
+     *
+     * @return null for frequencies that are not time-based
+     */
+    public LocalDateTime nextExecutionAfter(LocalDateTime anchor, LocalDateTime lastExecution, LocalTime scheduledTime) {
+        if (!isPeriodic()) {
+            return null;
+        }
+        ChronoUnit unit = this == DAILY ? ChronoUnit.DAYS : this == WEEKLY ? ChronoUnit.WEEKS : ChronoUnit.MONTHS;
+        LocalDateTime start = anchor.toLocalDate().atTime(scheduledTime);
+        // Always derived from the anchor, so a clamped month end does not become the new day of month
+        long periods = Math.max(0, unit.between(start, lastExecution));
+        LocalDateTime next = start.plus(periods, unit);
+        while (!next.isAfter(lastExecution)) {
+            next = start.plus(++periods, unit);
+        }
+        return next;
+    }
+
+    private static LocalDateTime nextSlot(LocalDateTime from, LocalTime scheduledTime) {
+        LocalDateTime slot = from.toLocalDate().atTime(scheduledTime);
+        return slot.isAfter(from) ? slot : slot.plusDays(1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.globaledge.academy.lms.assignment.listener;
+
+import com.globaledge.academy.lms.assignment.service.RuleExecutionService;
+import com.globaledge.academy.lms.employee.event.EmployeesCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Runs the ON_NEW_EMPLOYEE assignment rules for employees created by an import,
+ * once the creating transaction has committed and off the import thread.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeesCreatedListener {
+
+    private final RuleExecutionService ruleExecutionService;
+
+    @Async("newEmployeeRuleExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEmployeesCreated(EmployeesCreatedEvent event) {
+        log.debug("{} employees created, evaluating ON_NEW_EMPLOYEE rules", event.getEmployeeIds().size());
+        try {
+            ruleExecutionService.executeRulesForNewEmployees(event.getEmployeeIds());
+        } catch (Exception e) {
+            log.error("Error executing ON_NEW_EMPLOYEE rules: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -44,6 +46,22 @@ public interface AssignmentRuleRepository extends JpaRepository<CourseAssignment
             @Param("frequency") ExecutionFrequency frequency
     );
 
+    /**
+     * Find scheduled rules that are due (next execution time reached, or never scheduled)
+     */
+    @Query("SELECT r FROM CourseAssignmentRule r " +
+            "LEFT JOIN FETCH r.criteria " +
+            "WHERE r.isActive = true " +
+            "AND r.ruleStatus = :status " +
+            "AND r.executionFrequency IN :frequencies " +
+            "AND (r.nextExecutionAt IS NULL OR r.nextExecutionAt <= :now) " +
+            "ORDER BY r.nextExecutionAt ASC")
+    List<CourseAssignmentRule> findDueRules(
+            @Param("status") RuleStatus status,
+            @Param("frequencies") Collection<ExecutionFrequency> frequencies,
+            @Param("now") LocalDateTime now
+    );
+
     /**
      * Count active rules
      */
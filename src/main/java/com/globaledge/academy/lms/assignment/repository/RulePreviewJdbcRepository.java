@@ -0,0 +1,79 @@
+package com.globaledge.academy.lms.assignment.repository;
+
+import com.globaledge.academy.lms.assignment.dto.MatchedEmployeeDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Preview queries for rules whose matches are already known as a set of employees.id
+ * (in-memory rule engine). The ids are bound as one array parameter. PostgreSQL specific.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RulePreviewJdbcRepository {
+
+    private static final String COUNT_ENROLLED_SQL =
+            "SELECT count(*) FROM enrollments WHERE course_id = ? AND employee_id = ANY(?)";
+
+    private static final String PAGE_SQL = """
+            SELECT e.id, e.employee_id, e.first_name, e.last_name, e.email, e.department, e.designation,
+                   e.office_location,
+                   EXISTS (SELECT 1 FROM enrollments en WHERE en.employee_id = e.id AND en.course_id = ?) AS enrolled
+              FROM employees e
+             WHERE e.id = ANY(?)
+             ORDER BY %s %s, e.id
+             LIMIT ? OFFSET ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return how many of the given employees are enrolled in the course
+     */
+    public int countEnrolled(Long courseId, Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = employeeIds.toArray(Long[]::new);
+        Integer count = jdbcTemplate.query(COUNT_ENROLLED_SQL, ps -> {
+            ps.setLong(1, courseId);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * One page of the given employees with their enrollment flag for the course.
+     *
+     * @param sortColumn employees column to sort by; must come from a fixed allow-list, it is not bound
+     */
+    public List<MatchedEmployeeDto> findPage(Collection<Long> employeeIds, Long courseId, String sortColumn,
+                                             boolean descending, int offset, int limit) {
+        if (employeeIds.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = employeeIds.toArray(Long[]::new);
+        String sql = PAGE_SQL.formatted("e." + sortColumn, descending ? "DESC" : "ASC");
+
+        return jdbcTemplate.query(sql, ps -> {
+            ps.setLong(1, courseId);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setInt(3, limit);
+            ps.setInt(4, offset);
+        }, (rs, rowNum) -> MatchedEmployeeDto.builder()
+                .employeeId(rs.getLong("id"))
+                .employeeIdString(rs.getString("employee_id"))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .email(rs.getString("email"))
+                .department(rs.getString("department"))
+                .designation(rs.getString("designation"))
+                .location(rs.getString("office_location"))
+                .alreadyEnrolled(rs.getBoolean("enrolled"))
+                .build());
+    }
+}
@@ -15,10 +15,11 @@ public class RuleExecutionScheduler {
     private final RuleExecutionService ruleExecutionService;
 
     /**
-     * Execute all daily rules at 2 AM every day
+     * Execute the DAILY, WEEKLY and MONTHLY rules that are due, every hour by default
+     * (rules become due at assignment.rule.schedule.time). ON_NEW_EMPLOYEE rules are event-driven.
      * Cron format: second minute hour day month weekday
      */
-    @Scheduled(cron = "0 0 2 * * ?")
+    @Scheduled(cron = "${assignment.rule.schedule.cron:0 0 * * * ?}")
     public void executeScheduledRules() {
         log.info("=== Starting scheduled rule execution ===");
 
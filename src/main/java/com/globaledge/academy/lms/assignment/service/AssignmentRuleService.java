@@ -15,5 +15,5 @@ public interface AssignmentRuleService {
     void deleteRule(Long ruleId);
     AssignmentRuleDto activateRule(Long ruleId);
     AssignmentRuleDto deactivateRule(Long ruleId);
-    RulePreviewDto previewRule(AssignmentRuleDto ruleDto);
+    RulePreviewDto previewRule(AssignmentRuleDto ruleDto, int page, int size, String sortBy, String direction);
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 // 🎯 assignment/service/RuleEvaluationService.java
 package com.globaledge.academy.lms.assignment.service;
 
+import com.globaledge.academy.lms.assignment.dto.MatchedEmployeeDto;
 import com.globaledge.academy.lms.assignment.dto.RulePreviewDto;
 import com.globaledge.academy.lms.assignment.entity.CourseAssignmentRule;
 import com.globaledge.academy.lms.employee.entity.Employee;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface RuleEvaluationService {
     /**
@@ -14,7 +18,37 @@ public interface RuleEvaluationService {
     List<Employee> findMatchingEmployees(CourseAssignmentRule rule);
 
     /**
-     * Preview rule execution (shows who will be enrolled without creating enrollments)
+     * Find the primary keys of the employees matching the rule criteria, without loading entities
      */
-    RulePreviewDto previewRule(CourseAssignmentRule rule, Long courseId);
+    List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule);
+
+    /**
+     * Same as {@link #findMatchingEmployeeIds(CourseAssignmentRule)}, but only evaluates the given employees
+     * @param employeeIds business employee IDs (Employee.employeeId)
+     */
+    List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule, Collection<String> employeeIds);
+
+    /**
+     * Same as {@link #findMatchingEmployeeIds(CourseAssignmentRule)}, but only evaluates employees
+     * created or updated after the given time (Employee.updatedAt)
+     */
+    List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule, LocalDateTime changedSince);
+
+    /**
+     * Evaluate several rules in a single pass over the employees
+     * @return matched employee primary keys per rule ID; rules with invalid criteria have no entry
+     */
+    Map<Long, List<Long>> findMatchingEmployeeIdsByRule(Collection<CourseAssignmentRule> rules);
+
+    /**
+     * Find the employees matching the rule criteria as summary rows (alreadyEnrolled is not filled)
+     */
+    List<MatchedEmployeeDto> findMatchingEmployeeSummaries(CourseAssignmentRule rule);
+
+    /**
+     * Preview rule execution (shows who will be enrolled without creating enrollments).
+     * Counts cover all matches; matchedEmployees holds the requested page, sorted by a MatchedEmployeeDto field.
+     */
+    RulePreviewDto previewRule(CourseAssignmentRule rule, Long courseId,
+                               int page, int size, String sortBy, String direction);
 }
\ No newline at end of file
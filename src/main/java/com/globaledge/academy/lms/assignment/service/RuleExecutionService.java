@@ -4,6 +4,9 @@ package com.globaledge.academy.lms.assignment.service;
 import com.globaledge.academy.lms.assignment.dto.RuleExecutionResultDto;
 import com.globaledge.academy.lms.assignment.entity.CourseAssignmentRule;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface RuleExecutionService {
     /**
      * Execute rule by ID
@@ -16,7 +19,18 @@ public interface RuleExecutionService {
     RuleExecutionResultDto executeRule(CourseAssignmentRule rule);
 
     /**
-     * Execute all scheduled rules (called by scheduler)
+     * Execute several rules, evaluating them in a single pass over the employees
+     */
+    List<RuleExecutionResultDto> executeRules(List<CourseAssignmentRule> rules);
+
+    /**
+     * Execute all scheduled rules that are due (called by scheduler)
      */
     void executeAllScheduledRules();
+
+    /**
+     * Execute the ON_NEW_EMPLOYEE rules for newly created employees only
+     * @param employeeIds business employee IDs (Employee.employeeId)
+     */
+    void executeRulesForNewEmployees(Collection<String> employeeIds);
 }
\ No newline at end of file
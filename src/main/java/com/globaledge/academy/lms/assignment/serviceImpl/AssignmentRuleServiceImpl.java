@@ -2,6 +2,7 @@
 package com.globaledge.academy.lms.assignment.serviceImpl;
 
 import com.globaledge.academy.lms.assignment.dto.*;
+import com.globaledge.academy.lms.assignment.engine.RuleCompiler;
 import com.globaledge.academy.lms.assignment.entity.*;
 import com.globaledge.academy.lms.assignment.enums.*;
 import com.globaledge.academy.lms.assignment.exception.*;
@@ -13,9 +14,12 @@ import com.globaledge.academy.lms.course.repository.CourseRepository;
 import com.globaledge.academy.lms.employee.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +31,13 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
     private final AssignmentRuleRepository assignmentRuleRepository;
     private final CourseRepository courseRepository;
     private final RuleEvaluationService ruleEvaluationService;
+    private final RuleCompiler ruleCompiler;
+
+    /**
+     * Time of day at which DAILY, WEEKLY and MONTHLY rules become due.
+     */
+    @Value("${assignment.rule.schedule.time:02:00}")
+    private String scheduledTime;
 
     @Override
     @Transactional
@@ -48,6 +59,7 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
         }
 
         // Build rule entity
+        LocalDateTime firstExecution = firstExecution(ruleDto.getExecutionFrequency());
         CourseAssignmentRule rule = CourseAssignmentRule.builder()
                 .ruleName(ruleDto.getRuleName())
                 .description(ruleDto.getDescription())
@@ -57,6 +69,8 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
                 .enrollmentType(ruleDto.getEnrollmentType())
                 .dueDays(ruleDto.getDueDays())
                 .executionFrequency(ruleDto.getExecutionFrequency())
+                .nextExecutionAt(firstExecution)
+                .scheduleAnchorAt(firstExecution)
                 .matchLogic(ruleDto.getMatchLogic() != null ? ruleDto.getMatchLogic() : "AND")
                 .createdBy(ruleDto.getCreatedBy())
                 .isActive(true)
@@ -74,6 +88,9 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
             rule.addCriterion(criterion);
         }
 
+        // Resolve fields and parse values now, so invalid criteria are rejected instead of ignored at execution
+        ruleCompiler.validate(rule);
+
         CourseAssignmentRule savedRule = assignmentRuleRepository.save(rule);
         log.info("Assignment rule created successfully: {}", savedRule.getRuleId());
 
@@ -94,6 +111,9 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
         rule.setRuleType(ruleDto.getRuleType());
         rule.setEnrollmentType(ruleDto.getEnrollmentType());
         rule.setDueDays(ruleDto.getDueDays());
+        if (rule.getExecutionFrequency() != ruleDto.getExecutionFrequency()) {
+            startSchedule(rule, ruleDto.getExecutionFrequency());
+        }
         rule.setExecutionFrequency(ruleDto.getExecutionFrequency());
         rule.setMatchLogic(ruleDto.getMatchLogic() != null ? ruleDto.getMatchLogic() : "AND");
 
@@ -105,6 +125,9 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
         }
 
         // Update criteria - clear and re-add
+        // New criteria can match unchanged employees, so the next run must evaluate everyone
+        rule.setLastReconciledAt(null);
+        rule.setCriteriaVersion(rule.getCriteriaVersion() + 1);
         rule.getCriteria().clear();
         if (ruleDto.getCriteria() != null) {
             for (int i = 0; i < ruleDto.getCriteria().size(); i++) {
@@ -119,6 +142,10 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
             }
         }
 
+        // The new version no longer matches the cached compiled criteria; they are recompiled on the next run
+        ruleCompiler.validate(rule);
+        ruleCompiler.evict(ruleId);
+
         CourseAssignmentRule updatedRule = assignmentRuleRepository.save(rule);
         log.info("Assignment rule updated successfully: {}", ruleId);
 
@@ -160,6 +187,7 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
         CourseAssignmentRule rule = assignmentRuleRepository.findById(ruleId)
                 .orElseThrow(() -> new AssignmentRuleNotFoundException("Rule not found with ID: " + ruleId));
         assignmentRuleRepository.delete(rule);
+        ruleCompiler.evict(ruleId);
         log.info("Assignment rule deleted successfully: {}", ruleId);
     }
 
@@ -171,6 +199,8 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
                 .orElseThrow(() -> new AssignmentRuleNotFoundException("Rule not found with ID: " + ruleId));
         rule.setActive(true);
         rule.setRuleStatus(RuleStatus.ACTIVE);
+        startSchedule(rule, rule.getExecutionFrequency());
+        rule.setLastReconciledAt(null);
         CourseAssignmentRule savedRule = assignmentRuleRepository.save(rule);
         return convertToDto(savedRule);
     }
@@ -188,7 +218,7 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
     }
 
     @Override
-    public RulePreviewDto previewRule(AssignmentRuleDto ruleDto) {
+    public RulePreviewDto previewRule(AssignmentRuleDto ruleDto, int page, int size, String sortBy, String direction) {
         log.info("Previewing assignment rule: {}", ruleDto.getRuleName());
 
         // Validate course
@@ -214,7 +244,20 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
         }
 
         // Evaluate rule
-        return ruleEvaluationService.previewRule(tempRule, ruleDto.getCourseId());
+        return ruleEvaluationService.previewRule(tempRule, ruleDto.getCourseId(), page, size, sortBy, direction);
+    }
+
+    private LocalDateTime firstExecution(ExecutionFrequency frequency) {
+        return frequency == null ? null : frequency.firstExecutionAfter(LocalDateTime.now(), LocalTime.parse(scheduledTime));
+    }
+
+    /**
+     * Restarts the schedule at the next slot; later runs keep that slot's day of week / month.
+     */
+    private void startSchedule(CourseAssignmentRule rule, ExecutionFrequency frequency) {
+        LocalDateTime firstExecution = firstExecution(frequency);
+        rule.setNextExecutionAt(firstExecution);
+        rule.setScheduleAnchorAt(firstExecution);
     }
 
     private AssignmentRuleDto convertToDto(CourseAssignmentRule rule) {
@@ -230,6 +273,7 @@ public class AssignmentRuleServiceImpl implements AssignmentRuleService {
                 .dueDays(rule.getDueDays())
                 .executionFrequency(rule.getExecutionFrequency())
                 .lastExecutedAt(rule.getLastExecutedAt())
+                .nextExecutionAt(rule.getNextExecutionAt())
                 .lastMatchedCount(rule.getLastMatchedCount())
                 .matchLogic(rule.getMatchLogic())
                 .createdAt(rule.getCreatedAt())
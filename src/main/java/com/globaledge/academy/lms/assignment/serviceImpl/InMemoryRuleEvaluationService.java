@@ -0,0 +1,169 @@
+package com.globaledge.academy.lms.assignment.serviceImpl;
+
+import com.globaledge.academy.lms.assignment.dto.MatchedEmployeeDto;
+import com.globaledge.academy.lms.assignment.dto.RulePreviewDto;
+import com.globaledge.academy.lms.assignment.engine.CompiledRule;
+import com.globaledge.academy.lms.assignment.engine.EmployeeSnapshot;
+import com.globaledge.academy.lms.assignment.engine.EmployeeSnapshotCache;
+import com.globaledge.academy.lms.assignment.engine.RuleCompiler;
+import com.globaledge.academy.lms.assignment.engine.SnapshotRuleCompiler;
+import com.globaledge.academy.lms.assignment.entity.CourseAssignmentRule;
+import com.globaledge.academy.lms.assignment.exception.InvalidRuleCriteriaException;
+import com.globaledge.academy.lms.assignment.repository.RulePreviewJdbcRepository;
+import com.globaledge.academy.lms.assignment.service.RuleEvaluationService;
+import com.globaledge.academy.lms.employee.entity.Employee;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Rule evaluation on the in-memory employee snapshot (assignment.rule.engine=in-memory).
+ *
+ * Rules are compiled into bitmap operations over the columnar snapshot, so finding the matches
+ * takes no database round trip. Everything the snapshot cannot answer is delegated to the
+ * database implementation:
+ *  - rules with criteria on other attributes (or text range comparisons)
+ *  - evaluations restricted to new or recently changed employees, which the snapshot may not
+ *    contain yet (it lags by up to one refresh interval)
+ *  - loading Employee entities
+ * Previews take the matches from the snapshot and read only the requested page and the
+ * enrollment count from the database, by primary key.
+ */
+@Slf4j
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "assignment.rule.engine", havingValue = "in-memory")
+public class InMemoryRuleEvaluationService implements RuleEvaluationService {
+
+    /**
+     * Preview sort keys (MatchedEmployeeDto fields) mapped to employees columns.
+     */
+    private static final Map<String, String> PREVIEW_SORT_COLUMNS = Map.of(
+            "employeeId", "employee_id",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "email", "email",
+            "department", "department",
+            "designation", "designation",
+            "location", "office_location"
+    );
+
+    private final RuleEvaluationServiceImpl databaseEvaluation;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final RuleCompiler ruleCompiler;
+    private final RulePreviewJdbcRepository rulePreviewJdbcRepository;
+
+    @Value("${assignment.rule.preview.max-page-size:500}")
+    private int maxPreviewPageSize;
+
+    @Override
+    public List<Employee> findMatchingEmployees(CourseAssignmentRule rule) {
+        return databaseEvaluation.findMatchingEmployees(rule);
+    }
+
+    @Override
+    public List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule) {
+        Optional<CompiledRule> compiled = compileForSnapshot(rule);
+        if (compiled.isEmpty()) {
+            log.debug("Rule '{}' cannot be evaluated in memory, using the database", rule.getRuleName());
+            return databaseEvaluation.findMatchingEmployeeIds(rule);
+        }
+
+        long start = System.nanoTime();
+        EmployeeSnapshot snapshot = snapshotCache.getSnapshot();
+        List<Long> matchedIds = snapshot.employeeIds(compiled.get().evaluate(snapshot));
+        log.info("Found {} matching employees for rule: {} in memory ({} µs)",
+                matchedIds.size(), rule.getRuleName(), (System.nanoTime() - start) / 1_000);
+        return matchedIds;
+    }
+
+    /**
+     * Compiled rules are evaluated on one snapshot; the others go to the database in a single batch query
+     * (which leaves out rules with invalid criteria).
+     */
+    @Override
+    public Map<Long, List<Long>> findMatchingEmployeeIdsByRule(Collection<CourseAssignmentRule> rules) {
+        Map<Long, List<Long>> matchesByRule = new LinkedHashMap<>();
+        List<CourseAssignmentRule> databaseRules = new ArrayList<>();
+        EmployeeSnapshot snapshot = null;
+        for (CourseAssignmentRule rule : rules) {
+            Optional<CompiledRule> compiled;
+            try {
+                compiled = compileForSnapshot(rule);
+            } catch (InvalidRuleCriteriaException e) {
+                compiled = Optional.empty();
+            }
+            if (compiled.isEmpty()) {
+                databaseRules.add(rule);
+                continue;
+            }
+            if (snapshot == null) {
+                snapshot = snapshotCache.getSnapshot();
+            }
+            matchesByRule.put(rule.getRuleId(), snapshot.employeeIds(compiled.get().evaluate(snapshot)));
+        }
+        if (!databaseRules.isEmpty()) {
+            matchesByRule.putAll(databaseEvaluation.findMatchingEmployeeIdsByRule(databaseRules));
+        }
+        return matchesByRule;
+    }
+
+    @Override
+    public List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule, Collection<String> employeeIds) {
+        return databaseEvaluation.findMatchingEmployeeIds(rule, employeeIds);
+    }
+
+    @Override
+    public List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule, LocalDateTime changedSince) {
+        return databaseEvaluation.findMatchingEmployeeIds(rule, changedSince);
+    }
+
+    @Override
+    public List<MatchedEmployeeDto> findMatchingEmployeeSummaries(CourseAssignmentRule rule) {
+        return databaseEvaluation.findMatchingEmployeeSummaries(rule);
+    }
+
+    @Override
+    public RulePreviewDto previewRule(CourseAssignmentRule rule, Long courseId,
+                                      int page, int size, String sortBy, String direction) {
+        if (compileForSnapshot(rule).isEmpty()) {
+            return databaseEvaluation.previewRule(rule, courseId, page, size, sortBy, direction);
+        }
+
+        String sortColumn = PREVIEW_SORT_COLUMNS.get(sortBy);
+        if (sortColumn == null) {
+            throw new InvalidRuleCriteriaException("Cannot sort preview by '" + sortBy + "'. Allowed: "
+                    + String.join(", ", PREVIEW_SORT_COLUMNS.keySet()));
+        }
+        if (page < 0 || size < 1) {
+            throw new InvalidRuleCriteriaException("Page must be >= 0 and size >= 1");
+        }
+        int pageSize = Math.min(size, maxPreviewPageSize);
+
+        List<Long> matchedIds = findMatchingEmployeeIds(rule);
+        int alreadyEnrolled = rulePreviewJdbcRepository.countEnrolled(courseId, matchedIds);
+        List<MatchedEmployeeDto> employeeDtos = rulePreviewJdbcRepository.findPage(matchedIds, courseId,
+                sortColumn, "desc".equalsIgnoreCase(direction), page * pageSize, pageSize);
+
+        return RulePreviewDto.builder()
+                .totalMatched(matchedIds.size())
+                .alreadyEnrolled(alreadyEnrolled)
+                .willBeEnrolled(matchedIds.size() - alreadyEnrolled)
+                .matchedEmployees(employeeDtos)
+                .page(page)
+                .size(pageSize)
+                .totalPages((matchedIds.size() + pageSize - 1) / pageSize)
+                .build();
+    }
+
+    private Optional<CompiledRule> compileForSnapshot(CourseAssignmentRule rule) {
+        return SnapshotRuleCompiler.compile(ruleCompiler.compile(rule));
+    }
+}
@@ -2,70 +2,86 @@
 package com.globaledge.academy.lms.assignment.serviceImpl;
 
 import com.globaledge.academy.lms.assignment.dto.*;
+import com.globaledge.academy.lms.assignment.engine.CompiledCriteria;
+import com.globaledge.academy.lms.assignment.engine.CompiledCriterion;
+import com.globaledge.academy.lms.assignment.engine.RuleCompiler;
 import com.globaledge.academy.lms.assignment.entity.*;
 import com.globaledge.academy.lms.assignment.enums.FieldOperator;
+import com.globaledge.academy.lms.assignment.exception.InvalidRuleCriteriaException;
 import com.globaledge.academy.lms.assignment.service.RuleEvaluationService;
 import com.globaledge.academy.lms.employee.entity.Employee;
-import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
-import com.globaledge.academy.lms.enrollment.repository.EnrollmentRepository;
+import com.globaledge.academy.lms.enrollment.entity.Enrollment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
-    private final EmployeeRepository employeeRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    /**
+     * Preview sort keys (MatchedEmployeeDto fields) mapped to Employee attributes.
+     */
+    private static final Map<String, String> PREVIEW_SORT_ATTRIBUTES = Map.of(
+            "employeeId", "employeeId",
+            "firstName", "firstName",
+            "lastName", "lastName",
+            "email", "email",
+            "department", "department",
+            "designation", "designation",
+            "location", "officeLocation"
+    );
+
+    /**
+     * Escape character of the CONTAINS / NOT_CONTAINS patterns.
+     */
+    private static final char LIKE_ESCAPE = '\\';
+
     private final EntityManager entityManager;
+    private final RuleCompiler ruleCompiler;
+
+    /**
+     * Rows fetched per round trip when streaming matches. The PostgreSQL driver only uses a
+     * cursor inside a transaction, hence the read-only transactions below.
+     */
+    @Value("${assignment.rule.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${assignment.rule.preview.max-page-size:500}")
+    private int maxPreviewPageSize;
+
+    /**
+     * Statement timeout of the batch evaluation query; the same limit as one scheduled rule.
+     */
+    @Value("${assignment.rule.execution.timeout-seconds:600}")
+    private int batchTimeoutSeconds;
 
     @Override
     public List<Employee> findMatchingEmployees(CourseAssignmentRule rule) {
         log.info("Finding matching employees for rule: {}", rule.getRuleName());
 
-        if (rule.getCriteria() == null || rule.getCriteria().isEmpty()) {
-            log.warn("No criteria defined for rule: {}", rule.getRuleName());
-            return Collections.emptyList();
-        }
-
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
         Root<Employee> root = query.from(Employee.class);
 
-        List<Predicate> predicates = new ArrayList<>();
-
-        // Build predicates from criteria
-        for (RuleCriterion criterion : rule.getCriteria()) {
-            Predicate predicate = buildPredicate(cb, root, criterion);
-            if (predicate != null) {
-                predicates.add(predicate);
-            }
-        }
-
-        if (predicates.isEmpty()) {
-            log.warn("No valid predicates created for rule: {}", rule.getRuleName());
+        Predicate rulePredicate = buildRulePredicate(cb, root, rule);
+        if (rulePredicate == null) {
             return Collections.emptyList();
         }
-
-        // Combine predicates with AND or OR logic
-        Predicate finalPredicate;
-        if ("OR".equalsIgnoreCase(rule.getMatchLogic())) {
-            finalPredicate = cb.or(predicates.toArray(new Predicate[0]));
-            log.debug("Using OR logic for rule: {}", rule.getRuleName());
-        } else {
-            finalPredicate = cb.and(predicates.toArray(new Predicate[0]));
-            log.debug("Using AND logic for rule: {}", rule.getRuleName());
-        }
-
-        query.where(finalPredicate);
+        query.where(rulePredicate);
 
         List<Employee> matchedEmployees = entityManager.createQuery(query).getResultList();
         log.info("Found {} matching employees for rule: {}", matchedEmployees.size(), rule.getRuleName());
@@ -74,118 +90,347 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
     }
 
     @Override
-    public RulePreviewDto previewRule(CourseAssignmentRule rule, Long courseId) {
-        log.info("Previewing rule for course: {}", courseId);
-
-        List<Employee> matchedEmployees = findMatchingEmployees(rule);
-
-        List<MatchedEmployeeDto> employeeDtos = matchedEmployees.stream()
-                .map(emp -> {
-                    boolean alreadyEnrolled = enrollmentRepository
-                            .existsByEmployee_IdAndCourse_CourseId(emp.getId(), courseId);
-
-                    return MatchedEmployeeDto.builder()
-                            .employeeId(emp.getId())
-                            .employeeIdString(emp.getEmployeeId())
-                            .firstName(emp.getFirstName())
-                            .lastName(emp.getLastName())
-                            .email(emp.getEmail())
-                            .department(emp.getDepartment())
-                            .designation(emp.getDesignation())
-                            .location(emp.getOfficeLocation())
-                            .alreadyEnrolled(alreadyEnrolled)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule) {
+        log.info("Finding matching employee IDs for rule: {}", rule.getRuleName());
+        return findMatchingIds(rule, null, null);
+    }
 
-        long alreadyEnrolledCount = employeeDtos.stream()
-                .filter(MatchedEmployeeDto::isAlreadyEnrolled)
-                .count();
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule, Collection<String> employeeIds) {
+        log.debug("Evaluating rule '{}' against {} employees", rule.getRuleName(), employeeIds.size());
+        if (employeeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return findMatchingIds(rule, employeeIds, null);
+    }
 
-        return RulePreviewDto.builder()
-                .totalMatched(matchedEmployees.size())
-                .alreadyEnrolled((int) alreadyEnrolledCount)
-                .willBeEnrolled(matchedEmployees.size() - (int) alreadyEnrolledCount)
-                .matchedEmployees(employeeDtos)
-                .build();
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findMatchingEmployeeIds(CourseAssignmentRule rule, LocalDateTime changedSince) {
+        log.info("Finding employees changed since {} matching rule: {}", changedSince, rule.getRuleName());
+        return findMatchingIds(rule, null, changedSince);
     }
 
-    private Predicate buildPredicate(CriteriaBuilder cb, Root<Employee> root, RuleCriterion criterion) {
-        String fieldName = criterion.getFieldName();
-        String fieldValue = criterion.getFieldValue();
-        FieldOperator operator = criterion.getOperator();
+    /**
+     * One query for all rules: the employees matching any rule are scanned once, and each row
+     * carries one CASE WHEN flag per rule telling which rules it matches. Rules with invalid
+     * criteria are left out of the query and the result.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<Long>> findMatchingEmployeeIdsByRule(Collection<CourseAssignmentRule> rules) {
+        log.info("Evaluating {} rules in one pass", rules.size());
 
-        if (fieldValue == null || fieldValue.trim().isEmpty()) {
-            log.warn("Empty field value for criterion: {}", fieldName);
-            return null;
+        Map<Long, List<Long>> matchesByRule = new LinkedHashMap<>();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id"));
+        List<Predicate> anyRule = new ArrayList<>();
+        List<List<Long>> flagTargets = new ArrayList<>();
+        for (CourseAssignmentRule rule : rules) {
+            Predicate rulePredicate;
+            try {
+                rulePredicate = buildRulePredicate(cb, root, rule);
+            } catch (InvalidRuleCriteriaException e) {
+                log.warn("Skipping rule {} in batch evaluation: {}", rule.getRuleId(), e.getMessage());
+                continue;
+            }
+            List<Long> matches = new ArrayList<>();
+            matchesByRule.put(rule.getRuleId(), matches);
+            if (rulePredicate == null) {
+                continue;
+            }
+            // Built twice: the same predicate node is not shared between SELECT and WHERE
+            selections.add(cb.<Boolean>selectCase().when(buildRulePredicate(cb, root, rule), true).otherwise(false));
+            anyRule.add(rulePredicate);
+            flagTargets.add(matches);
         }
+        if (anyRule.isEmpty()) {
+            return matchesByRule;
+        }
+        query.multiselect(selections).where(cb.or(anyRule.toArray(new Predicate[0])));
+
+        try (Stream<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_TIMEOUT, batchTimeoutSeconds)
+                .getResultStream()) {
+            rows.forEach(row -> {
+                Long employeeId = row.get(0, Long.class);
+                for (int i = 0; i < flagTargets.size(); i++) {
+                    if (Boolean.TRUE.equals(row.get(i + 1, Boolean.class))) {
+                        flagTargets.get(i).add(employeeId);
+                    }
+                }
+            });
+        }
+        return matchesByRule;
+    }
 
-        try {
-            Path<String> path = root.get(fieldName);
+    /**
+     * @param employeeIds Business employee IDs to restrict the evaluation to, or null for all employees
+     * @param changedSince Only employees updated after this time (uses the updatedAt index), or null for all
+     */
+    private List<Long> findMatchingIds(CourseAssignmentRule rule, Collection<String> employeeIds,
+                                       LocalDateTime changedSince) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
 
-            switch (operator) {
-                case EQUALS:
-                    return cb.equal(cb.lower(path), fieldValue.toLowerCase().trim());
+        Predicate rulePredicate = buildRulePredicate(cb, root, rule);
+        if (rulePredicate == null) {
+            return Collections.emptyList();
+        }
+        if (employeeIds != null) {
+            rulePredicate = cb.and(root.get("employeeId").in(employeeIds), rulePredicate);
+        }
+        if (changedSince != null) {
+            rulePredicate = cb.and(cb.greaterThan(root.get("updatedAt"), changedSince), rulePredicate);
+        }
+        query.select(root.get("id")).where(rulePredicate);
 
-                case NOT_EQUALS:
-                    return cb.notEqual(cb.lower(path), fieldValue.toLowerCase().trim());
+        List<Long> matchedIds = new ArrayList<>();
+        try (Stream<Long> ids = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+            ids.forEach(matchedIds::add);
+        }
+        log.info("Found {} matching employees for rule: {}", matchedIds.size(), rule.getRuleName());
 
-                case CONTAINS:
-                    return cb.like(cb.lower(path), "%" + fieldValue.toLowerCase().trim() + "%");
+        return matchedIds;
+    }
 
-                case NOT_CONTAINS:
-                    return cb.notLike(cb.lower(path), "%" + fieldValue.toLowerCase().trim() + "%");
+    @Override
+    @Transactional(readOnly = true)
+    public List<MatchedEmployeeDto> findMatchingEmployeeSummaries(CourseAssignmentRule rule) {
+        log.info("Finding matching employee summaries for rule: {}", rule.getRuleName());
 
-                case IN:
-                    List<String> values = Arrays.stream(fieldValue.split(","))
-                            .map(String::trim)
-                            .map(String::toLowerCase)
-                            .collect(Collectors.toList());
-                    return cb.lower(path).in(values);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
 
-                case NOT_IN:
-                    List<String> notInValues = Arrays.stream(fieldValue.split(","))
-                            .map(String::trim)
-                            .map(String::toLowerCase)
-                            .collect(Collectors.toList());
-                    return cb.not(cb.lower(path).in(notInValues));
+        Predicate rulePredicate = buildRulePredicate(cb, root, rule);
+        if (rulePredicate == null) {
+            return Collections.emptyList();
+        }
+        query.multiselect(
+                root.get("id"),
+                root.get("employeeId"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("email"),
+                root.get("department"),
+                root.get("designation"),
+                root.get("officeLocation")
+        ).where(rulePredicate);
+
+        List<MatchedEmployeeDto> matched = new ArrayList<>();
+        try (Stream<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+            rows.forEach(row -> matched.add(MatchedEmployeeDto.builder()
+                    .employeeId(row.get(0, Long.class))
+                    .employeeIdString(row.get(1, String.class))
+                    .firstName(row.get(2, String.class))
+                    .lastName(row.get(3, String.class))
+                    .email(row.get(4, String.class))
+                    .department(row.get(5, String.class))
+                    .designation(row.get(6, String.class))
+                    .location(row.get(7, String.class))
+                    .build()));
+        }
+        log.info("Found {} matching employees for rule: {}", matched.size(), rule.getRuleName());
 
-                case GREATER_THAN:
-                    if ("dateOfJoining".equals(fieldName) || "dateOfBirth".equals(fieldName)) {
-                        Path<LocalDate> datePath = root.get(fieldName);
-                        return cb.greaterThan(datePath, LocalDate.parse(fieldValue.trim()));
-                    }
-                    return cb.greaterThan(path, fieldValue.trim());
+        return matched;
+    }
 
-                case LESS_THAN:
-                    if ("dateOfJoining".equals(fieldName) || "dateOfBirth".equals(fieldName)) {
-                        Path<LocalDate> datePath = root.get(fieldName);
-                        return cb.lessThan(datePath, LocalDate.parse(fieldValue.trim()));
-                    }
-                    return cb.lessThan(path, fieldValue.trim());
+    @Override
+    @Transactional(readOnly = true)
+    public RulePreviewDto previewRule(CourseAssignmentRule rule, Long courseId,
+                                      int page, int size, String sortBy, String direction) {
+        log.info("Previewing rule for course: {} (page {}, size {})", courseId, page, size);
+
+        String sortAttribute = PREVIEW_SORT_ATTRIBUTES.get(sortBy);
+        if (sortAttribute == null) {
+            throw new InvalidRuleCriteriaException("Cannot sort preview by '" + sortBy + "'. Allowed: "
+                    + String.join(", ", PREVIEW_SORT_ATTRIBUTES.keySet()));
+        }
+        if (page < 0 || size < 1) {
+            throw new InvalidRuleCriteriaException("Page must be >= 0 and size >= 1");
+        }
+        int pageSize = Math.min(size, maxPreviewPageSize);
 
-                case GREATER_THAN_EQUAL:
-                    if ("dateOfJoining".equals(fieldName) || "dateOfBirth".equals(fieldName)) {
-                        Path<LocalDate> datePath = root.get(fieldName);
-                        return cb.greaterThanOrEqualTo(datePath, LocalDate.parse(fieldValue.trim()));
-                    }
-                    return cb.greaterThanOrEqualTo(path, fieldValue.trim());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 
-                case LESS_THAN_EQUAL:
-                    if ("dateOfJoining".equals(fieldName) || "dateOfBirth".equals(fieldName)) {
-                        Path<LocalDate> datePath = root.get(fieldName);
-                        return cb.lessThanOrEqualTo(datePath, LocalDate.parse(fieldValue.trim()));
-                    }
-                    return cb.lessThanOrEqualTo(path, fieldValue.trim());
+        // 1. Counts, in one aggregate query
+        CriteriaQuery<Tuple> countQuery = cb.createTupleQuery();
+        Root<Employee> countRoot = countQuery.from(Employee.class);
+        Predicate countPredicate = buildRulePredicate(cb, countRoot, rule);
+        if (countPredicate == null) {
+            return emptyPreview(page, pageSize);
+        }
+        countQuery.multiselect(
+                cb.count(countRoot),
+                cb.sum(cb.<Long>selectCase()
+                        .when(isEnrolled(cb, countQuery, countRoot, courseId), 1L)
+                        .otherwise(0L))
+        ).where(countPredicate);
+
+        Tuple counts = entityManager.createQuery(countQuery).getSingleResult();
+        int totalMatched = counts.get(0, Long.class).intValue();
+        Long enrolledSum = counts.get(1, Long.class);
+        int alreadyEnrolled = enrolledSum == null ? 0 : enrolledSum.intValue();
+
+        // 2. The requested page, with the enrollment flag computed in the same query
+        CriteriaQuery<Tuple> pageQuery = cb.createTupleQuery();
+        Root<Employee> root = pageQuery.from(Employee.class);
+        Path<Object> sortPath = root.get(sortAttribute);
+        pageQuery.multiselect(
+                root.get("id"),
+                root.get("employeeId"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("email"),
+                root.get("department"),
+                root.get("designation"),
+                root.get("officeLocation"),
+                cb.<Boolean>selectCase()
+                        .when(isEnrolled(cb, pageQuery, root, courseId), true)
+                        .otherwise(false)
+        ).where(buildRulePredicate(cb, root, rule)).orderBy(
+                "desc".equalsIgnoreCase(direction) ? cb.desc(sortPath) : cb.asc(sortPath),
+                cb.asc(root.get("id")) // Stable order between pages
+        );
+
+        List<MatchedEmployeeDto> employeeDtos = entityManager.createQuery(pageQuery)
+                .setFirstResult(page * pageSize)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(row -> MatchedEmployeeDto.builder()
+                        .employeeId(row.get(0, Long.class))
+                        .employeeIdString(row.get(1, String.class))
+                        .firstName(row.get(2, String.class))
+                        .lastName(row.get(3, String.class))
+                        .email(row.get(4, String.class))
+                        .department(row.get(5, String.class))
+                        .designation(row.get(6, String.class))
+                        .location(row.get(7, String.class))
+                        .alreadyEnrolled(Boolean.TRUE.equals(row.get(8, Boolean.class)))
+                        .build())
+                .collect(Collectors.toList());
 
-                default:
-                    log.warn("Unsupported operator: {}", operator);
-                    return null;
-            }
-        } catch (Exception e) {
-            log.error("Error building predicate for field: {}, operator: {}, value: {}",
-                    fieldName, operator, fieldValue, e);
+        return RulePreviewDto.builder()
+                .totalMatched(totalMatched)
+                .alreadyEnrolled(alreadyEnrolled)
+                .willBeEnrolled(totalMatched - alreadyEnrolled)
+                .matchedEmployees(employeeDtos)
+                .page(page)
+                .size(pageSize)
+                .totalPages((totalMatched + pageSize - 1) / pageSize)
+                .build();
+    }
+
+    /**
+     * EXISTS (enrollment of this employee in the course). The (employee_id, course_id) unique
+     * constraint makes this a single index probe per employee.
+     */
+    private Predicate isEnrolled(CriteriaBuilder cb, AbstractQuery<?> query, Root<Employee> employee, Long courseId) {
+        Subquery<Integer> enrollment = query.subquery(Integer.class);
+        Root<Enrollment> enrollmentRoot = enrollment.from(Enrollment.class);
+        enrollment.select(cb.literal(1)).where(
+                cb.equal(enrollmentRoot.get("employee"), employee),
+                cb.equal(enrollmentRoot.get("course").get("courseId"), courseId));
+        return cb.exists(enrollment);
+    }
+
+    private RulePreviewDto emptyPreview(int page, int size) {
+        return RulePreviewDto.builder()
+                .totalMatched(0)
+                .alreadyEnrolled(0)
+                .willBeEnrolled(0)
+                .matchedEmployees(Collections.emptyList())
+                .page(page)
+                .size(size)
+                .totalPages(0)
+                .build();
+    }
+
+    /**
+     * Combines the rule's compiled criteria with its AND/OR match logic.
+     *
+     * @return the predicate, or null if the rule has no criteria (nothing matches)
+     * @throws InvalidRuleCriteriaException if the rule's criteria are invalid
+     */
+    private Predicate buildRulePredicate(CriteriaBuilder cb, Root<Employee> root, CourseAssignmentRule rule) {
+        CompiledCriteria compiled = ruleCompiler.compile(rule);
+        if (compiled.criteria().isEmpty()) {
+            log.warn("No criteria defined for rule: {}", rule.getRuleName());
             return null;
         }
+
+        Predicate[] predicates = compiled.criteria().stream()
+                .map(criterion -> buildPredicate(cb, root, criterion))
+                .toArray(Predicate[]::new);
+        return compiled.matchAny() ? cb.or(predicates) : cb.and(predicates);
+    }
+
+    /**
+     * Values are already validated and parsed; text comparisons are on lower(column), which the
+     * expression indexes of RuleCriteriaIndexInitializer cover. Enum equality compares the constants.
+     */
+    private Predicate buildPredicate(CriteriaBuilder cb, Root<Employee> root, CompiledCriterion criterion) {
+        String fieldName = criterion.fieldName();
+        FieldOperator operator = criterion.operator();
+
+        if (criterion.kind() == CompiledCriterion.Kind.DATE) {
+            Path<LocalDate> datePath = root.get(fieldName);
+            LocalDate date = criterion.date();
+            return switch (operator) {
+                case EQUALS -> cb.equal(datePath, date);
+                case NOT_EQUALS -> cb.notEqual(datePath, date);
+                case GREATER_THAN -> cb.greaterThan(datePath, date);
+                case LESS_THAN -> cb.lessThan(datePath, date);
+                case GREATER_THAN_EQUAL -> cb.greaterThanOrEqualTo(datePath, date);
+                default -> cb.lessThanOrEqualTo(datePath, date);
+            };
+        }
+
+        if (criterion.kind() == CompiledCriterion.Kind.ENUM && criterion.enumValues() != null) {
+            Path<Object> enumPath = root.get(fieldName);
+            return switch (operator) {
+                case EQUALS -> cb.equal(enumPath, criterion.enumValues().iterator().next());
+                case NOT_EQUALS -> cb.notEqual(enumPath, criterion.enumValues().iterator().next());
+                case IN -> enumPath.in(criterion.enumValues());
+                default -> cb.not(enumPath.in(criterion.enumValues()));
+            };
+        }
+
+        Path<String> path = root.get(fieldName);
+        return switch (operator) {
+            case EQUALS -> cb.equal(cb.lower(path), criterion.text());
+            case NOT_EQUALS -> cb.notEqual(cb.lower(path), criterion.text());
+            case CONTAINS -> cb.like(cb.lower(path), containsPattern(criterion.text()), LIKE_ESCAPE);
+            case NOT_CONTAINS -> cb.notLike(cb.lower(path), containsPattern(criterion.text()), LIKE_ESCAPE);
+            case IN -> cb.lower(path).in(criterion.texts());
+            case NOT_IN -> cb.not(cb.lower(path).in(criterion.texts()));
+            case GREATER_THAN -> cb.greaterThan(path, criterion.text());
+            case LESS_THAN -> cb.lessThan(path, criterion.text());
+            case GREATER_THAN_EQUAL -> cb.greaterThanOrEqualTo(path, criterion.text());
+            case LESS_THAN_EQUAL -> cb.lessThanOrEqualTo(path, criterion.text());
+        };
+    }
+
+    /**
+     * LIKE pattern matching values that contain the text literally: % and _ in the text are escaped,
+     * as the in-memory engine compares with String.contains.
+     */
+    static String containsPattern(String text) {
+        String escaped = text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
     }
-}
\ No newline at end of file
+}
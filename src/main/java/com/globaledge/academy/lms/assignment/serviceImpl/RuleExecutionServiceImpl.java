@@ -7,25 +7,94 @@ import com.globaledge.academy.lms.assignment.enums.*;
 import com.globaledge.academy.lms.assignment.exception.*;
 import com.globaledge.academy.lms.assignment.repository.AssignmentRuleRepository;
 import com.globaledge.academy.lms.assignment.service.*;
-import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.enrollment.dto.BulkEnrollmentResult;
 import com.globaledge.academy.lms.enrollment.service.EnrollmentService;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RuleExecutionServiceImpl implements RuleExecutionService {
 
+    private static final Set<ExecutionFrequency> PERIODIC_FREQUENCIES = EnumSet.of(
+            ExecutionFrequency.DAILY, ExecutionFrequency.WEEKLY, ExecutionFrequency.MONTHLY);
+
     private final AssignmentRuleRepository assignmentRuleRepository;
     private final RuleEvaluationService ruleEvaluationService;
     private final EnrollmentService enrollmentService;
+    private final ThreadPoolTaskExecutor ruleExecutionExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Per-rule limit for scheduled executions; enforced by Spring as a statement timeout on every query of the rule.
+     */
+    @Value("${assignment.rule.execution.timeout-seconds:600}")
+    private int ruleTimeoutSeconds;
+
+    /**
+     * Time of day at which DAILY, WEEKLY and MONTHLY rules become due.
+     */
+    @Value("${assignment.rule.schedule.time:02:00}")
+    private String scheduledTime;
+
+    /**
+     * full: scheduled runs evaluate every employee; incremental: only employees changed since the
+     * rule's last run, plus a full reconciliation every 'reconciliation-interval-days'.
+     */
+    @Value("${assignment.rule.evaluation.mode:incremental}")
+    private String evaluationMode;
+
+    @Value("${assignment.rule.evaluation.reconciliation-interval-days:7}")
+    private int reconciliationIntervalDays;
+
+    /**
+     * The change window starts this long before the last run, so employees written by transactions
+     * that were still open at that time (or a clock skew between application and database) are not missed.
+     */
+    @Value("${assignment.rule.evaluation.overlap-minutes:5}")
+    private int overlapMinutes;
+
+    private TransactionTemplate ruleTransactionTemplate;
+
+    /**
+     * Read-only transaction of the batch evaluation, separate from the caller's so a failed or timed out
+     * batch query does not abort it.
+     */
+    private TransactionTemplate batchEvaluationTemplate;
+
+    /**
+     * Matches of a full evaluation done ahead of the execution, by the batch evaluator.
+     */
+    private record Evaluation(List<Long> matchedEmployeeIds, LocalDateTime evaluatedAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        ruleTransactionTemplate = new TransactionTemplate(transactionManager);
+        ruleTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ruleTransactionTemplate.setTimeout(ruleTimeoutSeconds);
+
+        batchEvaluationTemplate = new TransactionTemplate(transactionManager);
+        batchEvaluationTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        batchEvaluationTemplate.setReadOnly(true);
+        batchEvaluationTemplate.setTimeout(ruleTimeoutSeconds);
+    }
 
     @Override
     @Transactional
@@ -41,6 +110,59 @@ public class RuleExecutionServiceImpl implements RuleExecutionService {
     @Override
     @Transactional
     public RuleExecutionResultDto executeRule(CourseAssignmentRule rule) {
+        return executeRule(rule, false, null);
+    }
+
+    /**
+     * All rules are evaluated with one query (or one snapshot pass), then each rule's matches go
+     * to the bulk enrollment insert. Each rule commits in its own transaction (REQUIRES_NEW, also when
+     * called inside a caller's transaction), so a failing rule is reported in its result and neither
+     * stops the others nor marks the caller's transaction rollback-only.
+     */
+    @Override
+    @Transactional
+    public List<RuleExecutionResultDto> executeRules(List<CourseAssignmentRule> rules) {
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime evaluatedAt = LocalDateTime.now();
+        Map<Long, List<Long>> matchesByRule = evaluateTogether(rules.stream()
+                .filter(rule -> rule.isActive() && rule.getRuleStatus() == RuleStatus.ACTIVE)
+                .collect(Collectors.toList()));
+
+        List<RuleExecutionResultDto> results = new ArrayList<>(rules.size());
+        for (CourseAssignmentRule rule : rules) {
+            // Rules missing from the batch result (invalid criteria, failed batch) are evaluated on their own
+            List<Long> matches = matchesByRule.get(rule.getRuleId());
+            Evaluation precomputed = matches != null ? new Evaluation(matches, evaluatedAt) : null;
+            Long ruleId = rule.getRuleId();
+            try {
+                results.add(ruleTransactionTemplate.execute(status -> executeRule(
+                        assignmentRuleRepository.findById(ruleId)
+                                .orElseThrow(() -> new AssignmentRuleNotFoundException("Rule not found with ID: " + ruleId)),
+                        false, precomputed)));
+            } catch (Exception e) {
+                results.add(RuleExecutionResultDto.builder()
+                        .ruleId(rule.getRuleId())
+                        .ruleName(rule.getRuleName())
+                        .success(false)
+                        .totalMatched(0)
+                        .enrollmentsCreated(0)
+                        .enrollmentsSkipped(0)
+                        .executedAt(LocalDateTime.now())
+                        .message(e.getMessage())
+                        .build());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param allowIncremental true for scheduled runs, which may evaluate changed employees only
+     * @param precomputed matches from a batch evaluation, or null to evaluate the rule here
+     */
+    private RuleExecutionResultDto executeRule(CourseAssignmentRule rule, boolean allowIncremental,
+                                               Evaluation precomputed) {
         long startTime = System.currentTimeMillis();
 
         try {
@@ -62,40 +184,47 @@ public class RuleExecutionServiceImpl implements RuleExecutionService {
                         .build();
             }
 
-            // Find matching employees
-            List<Employee> matchedEmployees = ruleEvaluationService.findMatchingEmployees(rule);
+            // Find matching employees: all of them, or only those changed since the last run
+            LocalDateTime evaluatedAt = precomputed != null ? precomputed.evaluatedAt() : LocalDateTime.now();
+            boolean incremental = precomputed == null && allowIncremental && canEvaluateIncrementally(rule, evaluatedAt);
+            List<Long> matchedEmployeeIds;
+            if (precomputed != null) {
+                matchedEmployeeIds = precomputed.matchedEmployeeIds();
+            } else if (incremental) {
+                matchedEmployeeIds = ruleEvaluationService.findMatchingEmployeeIds(
+                        rule, rule.getLastExecutedAt().minusMinutes(overlapMinutes));
+            } else {
+                matchedEmployeeIds = ruleEvaluationService.findMatchingEmployeeIds(rule);
+            }
 
-            int enrollmentsCreated = 0;
-            int enrollmentsSkipped = 0;
             List<String> errors = new ArrayList<>();
 
-            // Create enrollments
-            for (Employee employee : matchedEmployees) {
-                try {
-                    boolean created = enrollmentService.createEnrollmentFromRule(
-                            employee.getId(),
-                            rule.getCourse().getCourseId(),
-                            rule.getEnrollmentType(),
-                            rule.getDueDays()
-                    );
+            // Create enrollments in one set-based statement; already-enrolled employees are skipped
+            BulkEnrollmentResult enrollmentResult = enrollmentService.createEnrollmentsFromRule(
+                    matchedEmployeeIds,
+                    rule.getCourse().getCourseId(),
+                    rule.getEnrollmentType(),
+                    rule.getDueDays(),
+                    String.valueOf(rule.getRuleId())
+            );
+            int enrollmentsCreated = enrollmentResult.getEnrollmentsCreated();
+            int enrollmentsSkipped = enrollmentResult.getEnrollmentsSkipped();
 
-                    if (created) {
-                        enrollmentsCreated++;
-                        log.debug("Created enrollment for employee: {}", employee.getEmployeeId());
-                    } else {
-                        enrollmentsSkipped++;
-                        log.debug("Skipped enrollment for employee: {} (already enrolled)", employee.getEmployeeId());
-                    }
-                } catch (Exception e) {
-                    log.error("Error creating enrollment for employee {}: {}",
-                            employee.getEmployeeId(), e.getMessage());
-                    errors.add("Employee " + employee.getEmployeeId() + ": " + e.getMessage());
+            // Update rule execution info; the evaluation start is the watermark of the next incremental run
+            rule.setLastExecutedAt(evaluatedAt);
+            if (!incremental) {
+                // Only a full evaluation knows the total number of matches
+                rule.setLastMatchedCount(matchedEmployeeIds.size());
+                rule.setLastReconciledAt(evaluatedAt);
+            }
+            if (rule.getExecutionFrequency() != null && rule.getExecutionFrequency().isPeriodic()) {
+                // Rules scheduled before the anchor existed are anchored on their current due time
+                if (rule.getScheduleAnchorAt() == null) {
+                    rule.setScheduleAnchorAt(rule.getNextExecutionAt() != null ? rule.getNextExecutionAt() : evaluatedAt);
                 }
+                rule.setNextExecutionAt(rule.getExecutionFrequency()
+                        .nextExecutionAfter(rule.getScheduleAnchorAt(), evaluatedAt, LocalTime.parse(scheduledTime)));
             }
-
-            // Update rule execution info
-            rule.setLastExecutedAt(LocalDateTime.now());
-            rule.setLastMatchedCount(matchedEmployees.size());
             assignmentRuleRepository.save(rule);
 
             long executionTime = System.currentTimeMillis() - startTime;
@@ -107,14 +236,15 @@ public class RuleExecutionServiceImpl implements RuleExecutionService {
                     .ruleId(rule.getRuleId())
                     .ruleName(rule.getRuleName())
                     .success(true)
-                    .totalMatched(matchedEmployees.size())
+                    .totalMatched(matchedEmployeeIds.size())
                     .enrollmentsCreated(enrollmentsCreated)
                     .enrollmentsSkipped(enrollmentsSkipped)
                     .errors(errors)
                     .executedAt(LocalDateTime.now())
                     .executionTimeMs(executionTime)
-                    .message(String.format("Successfully executed rule. Matched: %d, Created: %d, Skipped: %d",
-                            matchedEmployees.size(), enrollmentsCreated, enrollmentsSkipped))
+                    .message(String.format("Successfully executed rule%s. Matched: %d, Created: %d, Skipped: %d",
+                            incremental ? " (changed employees only)" : "",
+                            matchedEmployeeIds.size(), enrollmentsCreated, enrollmentsSkipped))
                     .build();
 
         } catch (Exception e) {
@@ -123,35 +253,149 @@ public class RuleExecutionServiceImpl implements RuleExecutionService {
         }
     }
 
+    /**
+     * Evaluates the rules in one pass, limited by the per-rule timeout. A failure (a rule the batch query
+     * cannot handle, a timeout) is logged and yields no matches, so each rule is then evaluated inside its
+     * own transaction and timeout, and only the bad rule fails.
+     */
+    private Map<Long, List<Long>> evaluateTogether(List<CourseAssignmentRule> rules) {
+        if (rules.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<Long, List<Long>> matchesByRule = batchEvaluationTemplate.execute(
+                    status -> ruleEvaluationService.findMatchingEmployeeIdsByRule(rules));
+            return matchesByRule != null ? matchesByRule : Map.of();
+        } catch (Exception e) {
+            log.warn("Batch evaluation of {} rules failed, evaluating them one by one: {}", rules.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Incremental evaluation needs a watermark and a full reconciliation that is recent enough;
+     * the periodic full pass also picks up changes that do not touch updatedAt (e.g. direct SQL).
+     */
+    private boolean canEvaluateIncrementally(CourseAssignmentRule rule, LocalDateTime now) {
+        return "incremental".equalsIgnoreCase(evaluationMode)
+                && rule.getLastExecutedAt() != null
+                && rule.getLastReconciledAt() != null
+                && rule.getLastReconciledAt().isAfter(now.minusDays(reconciliationIntervalDays));
+    }
+
+    /**
+     * Only rules whose nextExecutionAt has been reached are loaded (indexed lookup); executing a rule
+     * moves its nextExecutionAt forward. A failed rule keeps its due time and is retried on the next tick.
+     *
+     * Rules run in parallel on the ruleExecutionExecutor, each in its own transaction with a timeout,
+     * so a slow or failing rule neither delays nor rolls back the others. Rules of the same course
+     * run one after another in a single task and never race on the enrollment unique constraint.
+     *
+     * Rules that need a full evaluation are evaluated together up front, in one pass over the
+     * employees; incremental rules only look at changed employees and are evaluated per rule.
+     * If the batch fails, every rule is evaluated inside its own transaction instead.
+     */
     @Override
-    @Transactional
     public void executeAllScheduledRules() {
-        log.info("Executing all scheduled assignment rules");
+        log.info("Executing all due scheduled assignment rules");
+
+        List<CourseAssignmentRule> dueRules = assignmentRuleRepository.findDueRules(
+                RuleStatus.ACTIVE, PERIODIC_FREQUENCIES, LocalDateTime.now());
+
+        log.info("Found {} due rules to execute", dueRules.size());
+        if (dueRules.isEmpty()) {
+            return;
+        }
 
-        // Get all active daily rules
-        List<CourseAssignmentRule> dailyRules = assignmentRuleRepository
-                .findExecutableRules(RuleStatus.ACTIVE, ExecutionFrequency.DAILY);
+        // The criteria are fetched with the rules, so they can be evaluated outside a transaction
+        LocalDateTime evaluatedAt = LocalDateTime.now();
+        List<CourseAssignmentRule> fullRules = dueRules.stream()
+                .filter(rule -> !canEvaluateIncrementally(rule, evaluatedAt))
+                .collect(Collectors.toList());
+        Map<Long, List<Long>> precomputedMatches = evaluateTogether(fullRules);
 
-        log.info("Found {} daily rules to execute", dailyRules.size());
+        Map<Long, List<Long>> ruleIdsByCourse = dueRules.stream()
+                .collect(Collectors.groupingBy(rule -> rule.getCourse().getCourseId(), LinkedHashMap::new,
+                        Collectors.mapping(CourseAssignmentRule::getRuleId, Collectors.toList())));
 
-        int successCount = 0;
-        int failureCount = 0;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
 
-        for (CourseAssignmentRule rule : dailyRules) {
+        CompletableFuture<?>[] courseTasks = ruleIdsByCourse.values().stream()
+                .map(ruleIds -> CompletableFuture.runAsync(() -> {
+                    for (Long ruleId : ruleIds) {
+                        List<Long> matches = precomputedMatches.get(ruleId);
+                        if (executeInOwnTransaction(ruleId,
+                                matches != null ? new Evaluation(matches, evaluatedAt) : null)) {
+                            successCount.incrementAndGet();
+                        } else {
+                            failureCount.incrementAndGet();
+                        }
+                    }
+                }, ruleExecutionExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(courseTasks).join();
+
+        log.info("Completed executing {} scheduled rules for {} courses. Success: {}, Failures: {}",
+                dueRules.size(), ruleIdsByCourse.size(), successCount.get(), failureCount.get());
+    }
+
+    /**
+     * Evaluates only the new employees against the ON_NEW_EMPLOYEE rules; no full rescan.
+     * Each rule commits on its own.
+     */
+    @Override
+    public void executeRulesForNewEmployees(Collection<String> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        List<CourseAssignmentRule> rules = assignmentRuleRepository
+                .findExecutableRules(RuleStatus.ACTIVE, ExecutionFrequency.ON_NEW_EMPLOYEE);
+        if (rules.isEmpty()) {
+            return;
+        }
+        log.info("Evaluating {} new employees against {} ON_NEW_EMPLOYEE rules", employeeIds.size(), rules.size());
+
+        for (CourseAssignmentRule loadedRule : rules) {
+            Long ruleId = loadedRule.getRuleId();
             try {
-                RuleExecutionResultDto result = executeRule(rule);
-                if (result.isSuccess()) {
-                    successCount++;
-                } else {
-                    failureCount++;
-                }
+                ruleTransactionTemplate.executeWithoutResult(status -> {
+                    // Re-read inside the transaction, the criteria are loaded lazily
+                    CourseAssignmentRule rule = assignmentRuleRepository.findById(ruleId).orElse(null);
+                    if (rule == null) {
+                        return;
+                    }
+                    List<Long> matchedIds = ruleEvaluationService.findMatchingEmployeeIds(rule, employeeIds);
+                    BulkEnrollmentResult result = enrollmentService.createEnrollmentsFromRule(
+                            matchedIds,
+                            rule.getCourse().getCourseId(),
+                            rule.getEnrollmentType(),
+                            rule.getDueDays(),
+                            String.valueOf(rule.getRuleId())
+                    );
+                    rule.setLastExecutedAt(LocalDateTime.now());
+                    log.info("Rule '{}' matched {} new employees, {} enrollments created",
+                            rule.getRuleName(), matchedIds.size(), result.getEnrollmentsCreated());
+                });
             } catch (Exception e) {
-                log.error("Error executing rule {}: {}", rule.getRuleId(), e.getMessage());
-                failureCount++;
+                log.error("Error executing rule {} for new employees: {}", ruleId, e.getMessage());
             }
         }
+    }
 
-        log.info("Completed executing {} scheduled rules. Success: {}, Failures: {}",
-                dailyRules.size(), successCount, failureCount);
+    /**
+     * @return true if the rule ran successfully
+     */
+    private boolean executeInOwnTransaction(Long ruleId, Evaluation precomputed) {
+        try {
+            RuleExecutionResultDto result = ruleTransactionTemplate.execute(status -> executeRule(
+                    assignmentRuleRepository.findById(ruleId)
+                            .orElseThrow(() -> new AssignmentRuleNotFoundException("Rule not found with ID: " + ruleId)),
+                    true, precomputed));
+            return result != null && result.isSuccess();
+        } catch (Exception e) {
+            log.error("Error executing rule {}: {}", ruleId, e.getMessage());
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -12,6 +12,8 @@ import com.globaledge.academy.lms.user.exception.InvalidPasswordResetTokenExcept
 import com.globaledge.academy.lms.user.exception.UserAlreadyExistsException;
 import com.globaledge.academy.lms.user.exception.UserNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -62,6 +64,17 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiError> handleTaskRejected(TaskRejectedException ex) {
+        log.error("Task rejected: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiError.builder()
+                        .message("Too many imports are queued. Please try again later.")
+                        .errorCode("IMPORT_QUEUE_FULL")
+                        .build());
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ApiError> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex) {
         log.error("File size exceeded: {}", ex.getMessage());
@@ -185,6 +198,21 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    // ========================================================================
+    // CONCURRENCY EXCEPTIONS
+    // ========================================================================
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiError.builder()
+                        .message("The resource was modified by another request. Please reload and try again.")
+                        .errorCode("CONCURRENT_MODIFICATION")
+                        .build());
+    }
+
     // ========================================================================
     // GENERIC EXCEPTION HANDLER
     // ========================================================================
@@ -1,12 +1,14 @@
 package com.globaledge.academy.lms.core.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration for async task execution (e.g., sending bulk emails).
@@ -29,4 +31,90 @@ public class AsyncExecutorConfig {
         log.info("Async task executor initialized with core pool size: 5, max pool size: 10");
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * Dedicated, bounded pool for asynchronous employee import jobs.
+     * Kept separate from taskExecutor so long imports never starve email sending.
+     * When all workers are busy and the queue is full, new submissions are rejected.
+     */
+    @Bean(name = "employeeImportExecutor")
+    public ThreadPoolTaskExecutor employeeImportExecutor(
+            @Value("${employee.import.async.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${employee.import.async.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("employee-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("Employee import executor initialized with {} workers and queue capacity {}", maxConcurrentJobs, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * CPU-bound pool for BCrypt hashing during bulk user provisioning.
+     * One thread per core by default (hashing never blocks on I/O). When the queue is full the
+     * submitting thread hashes the password itself, which throttles the producer instead of failing.
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${user.provisioning.hashing-threads:0}") int hashingThreads,
+            @Value("${user.provisioning.hashing-queue-capacity:1000}") int queueCapacity) {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("Password hashing executor initialized with {} threads", threads);
+        return executor;
+    }
+
+    /**
+     * Bounded pool for scheduled course assignment rule execution.
+     * Each task runs the rules of one course, one after another, so at most
+     * 'assignment.rule.execution.max-concurrent' courses are processed at the same time.
+     */
+    @Bean(name = "ruleExecutionExecutor")
+    public ThreadPoolTaskExecutor ruleExecutionExecutor(
+            @Value("${assignment.rule.execution.max-concurrent:4}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setThreadNamePrefix("rule-exec-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("Rule execution executor initialized with {} workers", maxConcurrent);
+        return executor;
+    }
+
+    /**
+     * Pool for the ON_NEW_EMPLOYEE rule runs triggered by imports.
+     * Kept separate from ruleExecutionExecutor so new employees are not enrolled only after a whole
+     * scheduled run. When the queue is full the committing import thread runs the rules itself,
+     * which throttles the import instead of dropping the run or queueing without limit.
+     */
+    @Bean(name = "newEmployeeRuleExecutor")
+    public ThreadPoolTaskExecutor newEmployeeRuleExecutor(
+            @Value("${assignment.rule.new-employee.max-concurrent:2}") int maxConcurrent,
+            @Value("${assignment.rule.new-employee.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("new-employee-rules-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        log.info("New employee rule executor initialized with {} workers and queue capacity {}", maxConcurrent, queueCapacity);
+        return executor;
+    }
+}
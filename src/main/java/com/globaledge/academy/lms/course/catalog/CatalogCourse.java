@@ -0,0 +1,11 @@
+package com.globaledge.academy.lms.course.catalog;
+
+import com.globaledge.academy.lms.course.enums.CourseCategory;
+
+/**
+ * Immutable entry of the published course catalog; shared between requests by {@link PublishedCourseCatalog}.
+ * The thumbnail URL is the S3 URL of the course's thumbnail media, or null without one.
+ */
+public record CatalogCourse(Long courseId, String title, String description, String instructor,
+                            Integer estimatedDuration, CourseCategory courseCategory, String thumbnailUrl) {
+}
@@ -0,0 +1,108 @@
+package com.globaledge.academy.lms.course.catalog;
+
+import com.globaledge.academy.lms.course.enums.CourseStatus;
+import com.globaledge.academy.lms.course.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide cache of the published courses, shared by all learners.
+ *
+ * Loaded lazily with one projection query and dropped when a course is published, unpublished,
+ * changed or deleted (after the commit, so a reload cannot read the old state back). The
+ * 'enrollment.catalog.cache-ttl-seconds' limit bounds staleness for changes made by other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublishedCourseCatalog {
+
+    private final CourseRepository courseRepository;
+
+    @Value("${enrollment.catalog.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private record Snapshot(List<CatalogCourse> courses, Map<Long, CatalogCourse> coursesById, long loadedAtNanos) {
+    }
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Incremented by every invalidation; a load that overlapped one is returned but not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @return the published courses ordered by course ID; the list is immutable
+     */
+    public List<CatalogCourse> getCourses() {
+        return currentSnapshot().courses();
+    }
+
+    /**
+     * @return the course if it is in the cached catalog; a course published on another instance since
+     * the last load is missing until the cache expires
+     */
+    public Optional<CatalogCourse> findCourse(Long courseId) {
+        return Optional.ofNullable(currentSnapshot().coursesById().get(courseId));
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !isExpired(current)) {
+                return current;
+            }
+            long loadGeneration = generation.get();
+            List<CatalogCourse> courses = List.copyOf(courseRepository.findCatalogCourses(CourseStatus.PUBLISHED));
+            Snapshot loaded = new Snapshot(courses,
+                    courses.stream().collect(Collectors.toUnmodifiableMap(CatalogCourse::courseId, Function.identity())),
+                    System.nanoTime());
+            if (loadGeneration == generation.get()) {
+                snapshot = loaded;
+            }
+            log.debug("Loaded published course catalog: {} courses", courses.size());
+            return loaded;
+        }
+    }
+
+    /**
+     * Drops the cached catalog once the current transaction commits (immediately without one).
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            drop();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                drop();
+            }
+        });
+    }
+
+    private void drop() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private boolean isExpired(Snapshot current) {
+        return System.nanoTime() - current.loadedAtNanos() > ttlSeconds * 1_000_000_000L;
+    }
+}
@@ -1,9 +1,14 @@
 package com.globaledge.academy.lms.course.repository;
 
+import com.globaledge.academy.lms.course.catalog.CatalogCourse;
 import com.globaledge.academy.lms.course.entity.Course;
 import com.globaledge.academy.lms.course.enums.CourseCategory;
 import com.globaledge.academy.lms.course.enums.CourseStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -15,5 +20,37 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     Optional<Course> findByCourseIdAndCourseStatus(Long courseId, CourseStatus status);
     long countByCourseStatus(CourseStatus status);
 
+    /**
+     * Catalog entries of the courses with the status, without loading the entities.
+     */
+    @Query("SELECT new com.globaledge.academy.lms.course.catalog.CatalogCourse(" +
+            "c.courseId, c.title, c.description, c.instructor, c.estimatedDuration, c.courseCategory, m.s3Url) " +
+            "FROM Course c LEFT JOIN Media m ON m.mediaId = c.thumbnailMediaId WHERE c.courseStatus = :status ORDER BY c.courseId")
+    List<CatalogCourse> findCatalogCourses(@Param("status") CourseStatus status);
 
+    /**
+     * Catalog entry of one course if it has the status, without loading the entity.
+     */
+    @Query("SELECT new com.globaledge.academy.lms.course.catalog.CatalogCourse(" +
+            "c.courseId, c.title, c.description, c.instructor, c.estimatedDuration, c.courseCategory, m.s3Url) " +
+            "FROM Course c LEFT JOIN Media m ON m.mediaId = c.thumbnailMediaId WHERE c.courseId = :courseId AND c.courseStatus = :status")
+    Optional<CatalogCourse> findCatalogCourse(@Param("courseId") Long courseId, @Param("status") CourseStatus status);
+
+    /**
+     * Published courses the employee is not enrolled in (NOT EXISTS anti-join on the
+     * (employee_id, course_id) unique index), optionally of one category.
+     */
+    @Query(value = "SELECT new com.globaledge.academy.lms.course.catalog.CatalogCourse(" +
+            "c.courseId, c.title, c.description, c.instructor, c.estimatedDuration, c.courseCategory, m.s3Url) " +
+            "FROM Course c LEFT JOIN Media m ON m.mediaId = c.thumbnailMediaId WHERE c.courseStatus = :status " +
+            "AND (:category IS NULL OR c.courseCategory = :category) " +
+            "AND NOT EXISTS (SELECT 1 FROM Enrollment e WHERE e.course = c AND e.employee.id = :employeeId) " +
+            "ORDER BY c.courseId",
+            countQuery = "SELECT count(c) FROM Course c WHERE c.courseStatus = :status " +
+                    "AND (:category IS NULL OR c.courseCategory = :category) " +
+                    "AND NOT EXISTS (SELECT 1 FROM Enrollment e WHERE e.course = c AND e.employee.id = :employeeId)")
+    Page<CatalogCourse> findAvailableForEmployee(@Param("employeeId") Long employeeId,
+                                                 @Param("status") CourseStatus status,
+                                                 @Param("category") CourseCategory category,
+                                                 Pageable pageable);
 }
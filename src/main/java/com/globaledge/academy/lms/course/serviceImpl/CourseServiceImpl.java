@@ -6,6 +6,7 @@ import com.globaledge.academy.lms.assignment.enums.ExecutionFrequency;
 import com.globaledge.academy.lms.assignment.enums.RuleStatus;
 import com.globaledge.academy.lms.assignment.repository.AssignmentRuleRepository;
 import com.globaledge.academy.lms.assignment.service.RuleExecutionService;
+import com.globaledge.academy.lms.course.catalog.PublishedCourseCatalog;
 import com.globaledge.academy.lms.course.dto.*;
 import com.globaledge.academy.lms.course.entity.*;
 import com.globaledge.academy.lms.course.enums.*;
@@ -33,6 +34,7 @@ public class CourseServiceImpl implements CourseService {
     private final ModelMapper modelMapper;
     private final AssignmentRuleRepository assignmentRuleRepository;
     private final RuleExecutionService ruleExecutionService;
+    private final PublishedCourseCatalog publishedCourseCatalog;
 
     // ✅ Make MediaService OPTIONAL using @Autowired(required = false)
     @Autowired(required = false)
@@ -43,11 +45,13 @@ public class CourseServiceImpl implements CourseService {
             CourseRepository courseRepository,
             ModelMapper modelMapper,
             AssignmentRuleRepository assignmentRuleRepository,
-            RuleExecutionService ruleExecutionService) {
+            RuleExecutionService ruleExecutionService,
+            PublishedCourseCatalog publishedCourseCatalog) {
         this.courseRepository = courseRepository;
         this.modelMapper = modelMapper;
         this.assignmentRuleRepository = assignmentRuleRepository;
         this.ruleExecutionService = ruleExecutionService;
+        this.publishedCourseCatalog = publishedCourseCatalog;
     }
 
     @Override
@@ -64,6 +68,9 @@ public class CourseServiceImpl implements CourseService {
             });
         }
         Course saved = courseRepository.save(course);
+        if (saved.getCourseStatus() == CourseStatus.PUBLISHED) {
+            publishedCourseCatalog.invalidate();
+        }
         return mapToDto(saved);
     }
 
@@ -108,6 +115,7 @@ public class CourseServiceImpl implements CourseService {
         }
 
         Course saved = courseRepository.save(existing);
+        publishedCourseCatalog.invalidate();
         return mapToDto(saved);
     }
 
@@ -156,6 +164,7 @@ public class CourseServiceImpl implements CourseService {
         }
 
         Course saved = courseRepository.save(course);
+        publishedCourseCatalog.invalidate();
 
         int rulesExecutedCount = 0;
         int totalEnrollments = 0;
@@ -169,13 +178,7 @@ public class CourseServiceImpl implements CourseService {
                     .collect(Collectors.toList());
 
             rulesExecutedCount = immediateRules.size();
-            executeImmediateRules(courseId);
-
-            for (CourseAssignmentRule rule : immediateRules) {
-                if (rule.getLastMatchedCount() != null) {
-                    totalEnrollments += rule.getLastMatchedCount();
-                }
-            }
+            totalEnrollments = executeImmediateRules(courseId, immediateRules);
         } catch (Exception e) {
             log.error("Error during immediate rule execution: {}", e.getMessage());
         }
@@ -201,43 +204,37 @@ public class CourseServiceImpl implements CourseService {
         return dto;
     }
 
-    private void executeImmediateRules(Long courseId) {
+    /**
+     * All immediate rules of the course are evaluated in one pass over the employees.
+     * Each rule commits on its own, so the loaded rule entities do not see the results.
+     *
+     * @return employees matched by the rules that executed successfully
+     */
+    private int executeImmediateRules(Long courseId, List<CourseAssignmentRule> immediateRules) {
+        int totalMatched = 0;
         try {
             log.info("=== Executing Immediate Assignment Rules for Course: {} ===", courseId);
 
-            List<CourseAssignmentRule> immediateRules = assignmentRuleRepository
-                    .findByCourse_CourseId(courseId).stream()
-                    .filter(rule -> rule.isActive()
-                            && rule.getRuleStatus() == RuleStatus.ACTIVE
-                            && rule.getExecutionFrequency() == ExecutionFrequency.IMMEDIATE)
-                    .collect(Collectors.toList());
-
             if (immediateRules.isEmpty()) {
                 log.info("No immediate rules found for course: {}", courseId);
-                return;
+                return 0;
             }
 
             log.info("Found {} immediate rules to execute for course: {}", immediateRules.size(), courseId);
 
-            for (CourseAssignmentRule rule : immediateRules) {
-                try {
-                    log.info("Executing immediate rule: '{}' (ID: {})", rule.getRuleName(), rule.getRuleId());
-                    RuleExecutionResultDto result = ruleExecutionService.executeRule(rule);
-
-                    if (result.isSuccess()) {
-                        log.info("Rule '{}' executed successfully: {} enrollments created, {} skipped",
-                                rule.getRuleName(), result.getEnrollmentsCreated(), result.getEnrollmentsSkipped());
-                    } else {
-                        log.error("Rule '{}' execution failed: {}", rule.getRuleName(), result.getMessage());
-                    }
-                } catch (Exception e) {
-                    log.error("Error executing immediate rule {} ({}): {}",
-                            rule.getRuleName(), rule.getRuleId(), e.getMessage(), e);
+            for (RuleExecutionResultDto result : ruleExecutionService.executeRules(immediateRules)) {
+                if (result.isSuccess()) {
+                    totalMatched += result.getTotalMatched();
+                    log.info("Rule '{}' executed successfully: {} enrollments created, {} skipped",
+                            result.getRuleName(), result.getEnrollmentsCreated(), result.getEnrollmentsSkipped());
+                } else {
+                    log.error("Rule '{}' execution failed: {}", result.getRuleName(), result.getMessage());
                 }
             }
         } catch (Exception e) {
             log.error("Error executing assignment rules for course {}: {}", courseId, e.getMessage(), e);
         }
+        return totalMatched;
     }
 
     @Override
@@ -247,6 +244,7 @@ public class CourseServiceImpl implements CourseService {
         c.setCourseStatus(CourseStatus.DRAFT);
         c.setPublishedAt(null);
         Course saved = courseRepository.save(c);
+        publishedCourseCatalog.invalidate();
         return mapToDto(saved);
     }
 
@@ -256,6 +254,7 @@ public class CourseServiceImpl implements CourseService {
             throw new ResourceNotFoundException("Course not found: " + courseId);
         }
         courseRepository.deleteById(courseId);
+        publishedCourseCatalog.invalidate();
     }
 
     @Override
@@ -0,0 +1,48 @@
+package com.globaledge.academy.lms.employee.cache;
+
+import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of business employee ID (e.g. "EMP001") -> primary key (employees.id).
+ *
+ * Requests identify employees by their business ID while enrollments reference the primary key;
+ * the mapping never changes once an employee exists (imports update employees by employee ID), so
+ * hits need no invalidation. Misses are not cached, an employee imported later is found on the next
+ * lookup. The cache is cleared when it reaches 'employee.id-cache.max-size' entries.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeIdCache {
+
+    private final EmployeeRepository employeeRepository;
+
+    @Value("${employee.id-cache.max-size:100000}")
+    private int maxSize;
+
+    private final Map<String, Long> idsByEmployeeId = new ConcurrentHashMap<>();
+
+    /**
+     * @return the primary key of the employee, or empty if no employee has this employee ID
+     */
+    public Optional<Long> resolve(String employeeId) {
+        Long id = idsByEmployeeId.get(employeeId);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        Optional<Long> loaded = employeeRepository.findIdByEmployeeId(employeeId);
+        loaded.ifPresent(value -> {
+            if (idsByEmployeeId.size() >= maxSize) {
+                idsByEmployeeId.clear();
+            }
+            idsByEmployeeId.put(employeeId, value);
+        });
+        return loaded;
+    }
+}
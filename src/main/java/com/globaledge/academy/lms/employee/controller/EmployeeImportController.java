@@ -1,6 +1,7 @@
 package com.globaledge.academy.lms.employee.controller;
 
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportHistoryDTO;
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportProgressDTO;
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportResultDTO;
 import com.globaledge.academy.lms.employee.imports.service.EmployeeImportHistoryService;
 import com.globaledge.academy.lms.employee.imports.service.EmployeeImportService;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -29,16 +31,40 @@ public class EmployeeImportController {
 
     @PreAuthorize("hasRole('ADMIN')") //  Added
     @Operation(summary = "Import Employees from Excel",
-            description = "Upload an .xlsx file to bulk process employee records. Each row must contain an 'Import Type' column specifying the operation (101, 102, or 103).")
+            description = "Upload an .xlsx file to bulk process employee records. Each row must contain an 'Import Type' column specifying the operation (101, 102, or 103). " +
+                    "With async=true the file is queued and 202 Accepted is returned immediately with the import ID to poll.")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<EmployeeImportResultDTO> importEmployees(
             @RequestParam("file") MultipartFile file,
-            @RequestParam("importedBy") String importedBy) {
+            @RequestParam("importedBy") String importedBy,
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
+
+        if (async) {
+            EmployeeImportResultDTO queued = employeeImportService.submitImport(file, importedBy);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(queued);
+        }
 
         EmployeeImportResultDTO result = employeeImportService.importEmployees(file, importedBy);
         return ResponseEntity.ok(result);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get Import Progress",
+            description = "Returns live progress of an import job: rows parsed, validated, persisted, users created and throughput.")
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<EmployeeImportProgressDTO> getImportProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(employeeImportHistoryService.getImportProgress(id));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cancel Import",
+            description = "Requests cancellation of a queued or running import job. The job stops at the next chunk boundary; already committed chunks are kept.")
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<EmployeeImportProgressDTO> cancelImport(@PathVariable Long id) {
+        employeeImportService.cancelImport(id);
+        return ResponseEntity.ok(employeeImportHistoryService.getImportProgress(id));
+    }
+
     @PreAuthorize("hasRole('ADMIN')") //  Added
     @Operation(summary = "Get All Import Histories",
             description = "Retrieves a list of all past employee import jobs, sorted by most recent.")
@@ -59,10 +85,12 @@ public class EmployeeImportController {
 
     @PreAuthorize("hasRole('ADMIN')") //  Added
     @Operation(summary = "Download Import Log File",
-            description = "Downloads the validation log file (.xlsx) for a specific import job by its ID.")
+            description = "Downloads the validation log file (.xlsx, .csv.gz or .ndjson.gz, see employee.import.log.format) for a specific import job by its ID. " +
+                    "With detail=true, returns the per-row log of an import whose log was aggregated.")
     @GetMapping("/history/{id}/log")
-    public ResponseEntity<Resource> downloadLogFile(@PathVariable Long id) {
-        Resource resource = employeeImportHistoryService.downloadLogFile(id);
+    public ResponseEntity<Resource> downloadLogFile(@PathVariable Long id,
+                                                    @RequestParam(defaultValue = "false") boolean detail) {
+        Resource resource = employeeImportHistoryService.downloadLogFile(id, detail);
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
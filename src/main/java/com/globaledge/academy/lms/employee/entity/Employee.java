@@ -18,7 +18,8 @@ import java.util.Set;
         name = "employees",
         indexes = {
                 @Index(name = "idx_employee_id", columnList = "employeeId", unique = true),
-                @Index(name = "idx_email", columnList = "email", unique = true)
+                @Index(name = "idx_email", columnList = "email", unique = true),
+                @Index(name = "idx_employee_updated_at", columnList = "updatedAt")
         }
 )
 @Getter
@@ -4,6 +4,14 @@ package com.globaledge.academy.lms.employee.enums;
  * Represents the overall status of an employee import job.
  */
 public enum ImportStatus {
+    /**
+     * The file has been accepted and spooled; the job is waiting for a free import worker.
+     */
+    QUEUED,
+    /**
+     * The job is currently running. Progress counters are updated after every chunk.
+     */
+    IN_PROGRESS,
     /**
      * All records were processed successfully with no errors or warnings.
      */
@@ -19,5 +27,9 @@ public enum ImportStatus {
     /**
      * The import process failed completely, and no records were saved.
      */
-    FAILED
+    FAILED,
+    /**
+     * The job was cancelled on request. Chunks committed before the cancellation are kept.
+     */
+    CANCELLED
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.globaledge.academy.lms.employee.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Published when new employees have been written, e.g. by one import chunk.
+ * Listeners should use @TransactionalEventListener so they only see committed employees.
+ */
+@Getter
+@RequiredArgsConstructor
+public class EmployeesCreatedEvent {
+
+    /**
+     * Business employee IDs (Employee.employeeId) of the created employees.
+     */
+    private final List<String> employeeIds;
+}
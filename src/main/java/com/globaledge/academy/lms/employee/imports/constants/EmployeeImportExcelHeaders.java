@@ -1,5 +1,7 @@
     package com.globaledge.academy.lms.employee.imports.constants;
 
+    import java.util.List;
+
     /**
      * Defines constant string values for Excel column headers.
      * This prevents typos and centralizes header names.
@@ -29,6 +31,18 @@
         public static final String WORK_MODE = "Work Mode";
         public static final String STATUS = "Status";
 
+        // Headers that must be present in every import file
+        public static final List<String> MANDATORY_HEADERS = List.of(
+                IMPORT_TYPE,
+                EMPLOYEE_ID,
+                FIRST_NAME,
+                LAST_NAME,
+                EMAIL,
+                DEPARTMENT,
+                DESIGNATION,
+                DATE_OF_JOINING
+        );
+
         // Log File Headers
         public static final String LOG_LEVEL = "LEVEL";
         public static final String LOG_IDENTIFIER = "IDENTIFIER";
@@ -34,6 +34,8 @@ public class EmployeeImportHistoryDTO {
 
     private String logFileName;
 
+    private String errorSummary;
+
     private LocalDateTime importedAt;
 
     private String importedBy;
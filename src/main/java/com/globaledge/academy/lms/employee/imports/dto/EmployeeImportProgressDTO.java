@@ -0,0 +1,50 @@
+package com.globaledge.academy.lms.employee.imports.dto;
+
+import com.globaledge.academy.lms.employee.enums.ImportStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Live progress of an import job, returned by the progress and cancel endpoints.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeImportProgressDTO {
+
+    private Long importId;
+
+    private String fileName;
+
+    private ImportStatus status;
+
+    private Integer totalRecords;
+
+    private Integer rowsParsed;
+
+    private Integer rowsValidated;
+
+    private Integer rowsPersisted;
+
+    private Integer usersCreated;
+
+    private Integer errorCount;
+
+    private Double rowsPerSecond;
+
+    /**
+     * Validated rows / total rows, 0-100. Null until the file has been fully parsed.
+     */
+    private Double percentComplete;
+
+    private Boolean cancelRequested;
+
+    private LocalDateTime importedAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,72 @@
+package com.globaledge.academy.lms.employee.imports.model;
+
+import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.repository.EmployeeRepository.EmployeeKey;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of the employees that already exist for one import batch,
+ * built from a single pre-fetch query (employeeId IN (...) OR email IN (...)).
+ *
+ * Strategies register every row they write, so duplicates inside the same batch
+ * are detected exactly as if the rows had been saved one by one.
+ */
+public class EmployeeBatchIndex {
+
+    private final Map<String, Long> idByEmployeeId = new HashMap<>();
+    private final Map<String, String> employeeIdByEmail = new HashMap<>();
+    private final Map<String, String> emailByEmployeeId = new HashMap<>();
+
+    public static EmployeeBatchIndex of(List<EmployeeKey> existingKeys) {
+        EmployeeBatchIndex index = new EmployeeBatchIndex();
+        existingKeys.forEach(key -> index.register(key.getEmployeeId(), key.getEmail(), key.getId()));
+        return index;
+    }
+
+    public static Set<String> employeeIdsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeId).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    public static Set<String> emailsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmail).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    public boolean containsEmployeeId(String employeeId) {
+        return idByEmployeeId.containsKey(employeeId);
+    }
+
+    public boolean containsEmail(String email) {
+        return employeeIdByEmail.containsKey(email);
+    }
+
+    /**
+     * @return The database id of an existing employee, or null if unknown / not yet generated.
+     */
+    public Long getId(String employeeId) {
+        return idByEmployeeId.get(employeeId);
+    }
+
+    /**
+     * @return true if the email already belongs to an employee other than the given one.
+     */
+    public boolean isEmailTakenByOther(String email, String employeeId) {
+        String owner = employeeIdByEmail.get(email);
+        return owner != null && !owner.equals(employeeId);
+    }
+
+    /**
+     * Records that an employee now exists with the given email (after an insert or update).
+     */
+    public void register(String employeeId, String email, Long id) {
+        String previousEmail = emailByEmployeeId.put(employeeId, email);
+        if (previousEmail != null && !previousEmail.equals(email)) {
+            employeeIdByEmail.remove(previousEmail);
+        }
+        employeeIdByEmail.put(email, employeeId);
+        if (id != null || !idByEmployeeId.containsKey(employeeId)) {
+            idByEmployeeId.put(employeeId, id);
+        }
+    }
+}
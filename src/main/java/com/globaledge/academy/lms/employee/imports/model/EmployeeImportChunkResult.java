@@ -0,0 +1,38 @@
+package com.globaledge.academy.lms.employee.imports.model;
+
+import com.globaledge.academy.lms.user.dto.BulkUserCreationSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of processing one chunk of import records in its own transaction.
+ * Only lightweight data survives the chunk: counters, log entries and the
+ * employeeId -> managerId pairs needed for the final manager linking pass.
+ */
+@Getter
+@Builder
+public class EmployeeImportChunkResult {
+
+    @Builder.Default
+    private int recordCount = 0;
+
+    @Builder.Default
+    private int successCount = 0;
+
+    @Builder.Default
+    private int errorCount = 0;
+
+    @Builder.Default
+    private final ImportLogBuffer logs = new ImportLogBuffer();
+
+    /**
+     * employeeId -> managerId for successfully processed rows that reference a manager.
+     */
+    @Builder.Default
+    private final Map<String, String> managerLinks = new LinkedHashMap<>();
+
+    private BulkUserCreationSummary userCreationSummary;
+}
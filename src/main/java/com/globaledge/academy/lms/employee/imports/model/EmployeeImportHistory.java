@@ -52,6 +52,12 @@ public class EmployeeImportHistory {
     @Column(length = 255)
     private String logFileName;
 
+    /**
+     * Per-row log, only set when the main log file is aggregated (employee.import.log.mode=aggregated).
+     */
+    @Column(length = 512)
+    private String detailLogFilePath;
+
     @Column(length = 100)
     private String importedBy;
 
@@ -61,4 +67,31 @@ public class EmployeeImportHistory {
 
     @Lob
     private String errorSummary;
+
+    // ===================== PROGRESS =====================
+    // Updated after every chunk so running jobs can be polled.
+
+    @Builder.Default
+    private Integer rowsParsed = 0;
+
+    @Builder.Default
+    private Integer rowsValidated = 0;
+
+    @Builder.Default
+    private Integer rowsPersisted = 0;
+
+    @Builder.Default
+    private Integer usersCreated = 0;
+
+    private Double rowsPerSecond;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    /**
+     * Set by the cancel endpoint; the running job checks it at every chunk boundary.
+     */
+    @Builder.Default
+    private Boolean cancelRequested = false;
 }
\ No newline at end of file
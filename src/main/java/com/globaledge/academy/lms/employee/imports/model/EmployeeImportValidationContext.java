@@ -0,0 +1,66 @@
+package com.globaledge.academy.lms.employee.imports.model;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Shared, read-only data available to every validator while records are validated.
+ *
+ * For a file import it is the import-scoped reference snapshot: it is built once, after the
+ * first pass over the file, with a single query for every manager ID the file references,
+ * and reused by all chunks. Every existence check during validation is then an in-memory lookup.
+ *
+ * When validators are called without a snapshot, it is filled per batch instead
+ * (see ValidationChain#preload). Either way ValidationChain#validate never has to touch the
+ * database and can safely run on several threads at the same time.
+ */
+@Getter
+public class EmployeeImportValidationContext {
+
+    /**
+     * All employee IDs from the current import file, for cross-record validations.
+     */
+    private final Set<String> employeeIdsInFile;
+
+    /**
+     * Employee IDs referenced by the records and confirmed to exist in the database.
+     */
+    private final Set<String> existingEmployeeIds = new HashSet<>();
+
+    /**
+     * True once the referenced IDs of the whole file have been loaded, so per-batch preloads can be skipped.
+     */
+    private boolean referencesPreloaded;
+
+    public EmployeeImportValidationContext(Set<String> employeeIdsInFile) {
+        this.employeeIdsInFile = employeeIdsInFile;
+    }
+
+    /**
+     * Creates the import-scoped snapshot from the result of one set-based existence query.
+     *
+     * @param employeeIdsInFile All employee IDs of the file.
+     * @param existingReferencedIds Referenced IDs (outside the file) found in the database.
+     */
+    public static EmployeeImportValidationContext snapshot(Set<String> employeeIdsInFile,
+                                                           Collection<String> existingReferencedIds) {
+        EmployeeImportValidationContext context = new EmployeeImportValidationContext(employeeIdsInFile);
+        context.addExistingEmployeeIds(existingReferencedIds);
+        context.referencesPreloaded = true;
+        return context;
+    }
+
+    public void addExistingEmployeeIds(Collection<String> employeeIds) {
+        existingEmployeeIds.addAll(employeeIds);
+    }
+
+    /**
+     * @return true if the employee ID exists in the database or in the current import file.
+     */
+    public boolean isKnownEmployeeId(String employeeId) {
+        return employeeIdsInFile.contains(employeeId) || existingEmployeeIds.contains(employeeId);
+    }
+}
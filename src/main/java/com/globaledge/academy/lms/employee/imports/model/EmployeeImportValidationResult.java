@@ -1,6 +1,7 @@
 package com.globaledge.academy.lms.employee.imports.model;
 
 
+import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,6 +12,9 @@ import java.util.List;
 /**
  * A container object that holds a single parsed record and the results of its validation.
  * It tracks validity and collects any errors or warnings generated for that record.
+ *
+ * Errors and warnings are kept in a compact ImportLogBuffer (template code + row values),
+ * which is only allocated for records that actually have something to report.
  */
 @Getter
 @Builder
@@ -21,26 +25,73 @@ public class EmployeeImportValidationResult {
     @Builder.Default
     private boolean valid = true;
 
-    @Builder.Default
-    private final List<EmployeeImportLogEntryDTO> errors = new ArrayList<>();
+    private int errorCount;
 
-    @Builder.Default
-    private final List<EmployeeImportLogEntryDTO> warnings = new ArrayList<>();
+    private int warningCount;
+
+    /**
+     * Errors and warnings of this record, in the order they were added. Null while there are none.
+     */
+    private ImportLogBuffer logs;
 
-    public void addError(EmployeeImportLogEntryDTO error) {
-        this.errors.add(error);
+    /**
+     * Adds an ERROR for this record.
+     *
+     * @param template The message template; row values go into '{}' placeholders (see ImportLogTemplates).
+     * @param args The values for the placeholders.
+     */
+    public void addError(String template, String... args) {
+        add(ImportLogLevel.ERROR, template, args);
+        this.errorCount++;
         this.valid = false;
     }
 
-    public void addWarning(EmployeeImportLogEntryDTO warning) {
-        this.warnings.add(warning);
+    /**
+     * Adds a WARNING for this record.
+     *
+     * @param template The message template; row values go into '{}' placeholders (see ImportLogTemplates).
+     * @param args The values for the placeholders.
+     */
+    public void addWarning(String template, String... args) {
+        add(ImportLogLevel.WARNING, template, args);
+        this.warningCount++;
     }
 
     public boolean hasErrors() {
-        return !this.errors.isEmpty();
+        return this.errorCount > 0;
     }
 
     public boolean hasWarnings() {
-        return !this.warnings.isEmpty();
+        return this.warningCount > 0;
+    }
+
+    /**
+     * @return The errors rendered as log entries.
+     */
+    public List<EmployeeImportLogEntryDTO> getErrors() {
+        return entries(ImportLogLevel.ERROR);
+    }
+
+    /**
+     * @return The warnings rendered as log entries.
+     */
+    public List<EmployeeImportLogEntryDTO> getWarnings() {
+        return entries(ImportLogLevel.WARNING);
+    }
+
+    private void add(ImportLogLevel level, String template, String[] args) {
+        if (logs == null) {
+            logs = new ImportLogBuffer(2);
+        }
+        logs.add(record.getRowNumber(), level, template, args);
+    }
+
+    private List<EmployeeImportLogEntryDTO> entries(ImportLogLevel level) {
+        List<EmployeeImportLogEntryDTO> entries = new ArrayList<>();
+        if (logs == null) return entries;
+        for (EmployeeImportLogEntryDTO entry : logs.toEntries()) {
+            if (entry.getLevel() == level) entries.add(entry);
+        }
+        return entries;
     }
-}
\ No newline at end of file
+}
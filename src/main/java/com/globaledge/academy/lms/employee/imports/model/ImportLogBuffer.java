@@ -0,0 +1,124 @@
+package com.globaledge.academy.lms.employee.imports.model;
+
+import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, append-only list of import log entries.
+ *
+ * Entries are stored column-wise in primitive arrays: row number, level ordinal and
+ * template code (see ImportLogTemplates), plus the row values for the template's placeholders
+ * where it has any. The message text and "Row n" identifier are only rendered when the
+ * log is written, so a chunk with thousands of identical warnings holds no strings of its own.
+ */
+public class ImportLogBuffer {
+
+    private static final ImportLogLevel[] LEVELS = ImportLogLevel.values();
+
+    private int[] rows;
+    private byte[] levels;
+    private int[] codes;
+    private String[][] args;
+    private int size;
+
+    public ImportLogBuffer() {
+        this(16);
+    }
+
+    public ImportLogBuffer(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        rows = new int[capacity];
+        levels = new byte[capacity];
+        codes = new int[capacity];
+        args = new String[capacity][];
+    }
+
+    /**
+     * Appends an entry.
+     *
+     * @param row The Excel row number.
+     * @param level The severity.
+     * @param template The message template; row values go into '{}' placeholders.
+     * @param templateArgs The values for the placeholders, if any.
+     */
+    public void add(int row, ImportLogLevel level, String template, String... templateArgs) {
+        add(row, level, ImportLogTemplates.codeOf(template), templateArgs);
+    }
+
+    private void add(int row, ImportLogLevel level, int code, String[] templateArgs) {
+        if (size == rows.length) {
+            int capacity = size + (size >> 1) + 1;
+            rows = Arrays.copyOf(rows, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            codes = Arrays.copyOf(codes, capacity);
+            args = Arrays.copyOf(args, capacity);
+        }
+        rows[size] = row;
+        levels[size] = (byte) level.ordinal();
+        codes[size] = code;
+        args[size] = templateArgs == null || templateArgs.length == 0 ? null : templateArgs;
+        size++;
+    }
+
+    public void addAll(ImportLogBuffer other) {
+        if (other == null) return;
+        for (int i = 0; i < other.size; i++) {
+            add(other.rows[i], LEVELS[other.levels[i]], other.codes[i], other.args[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getRow(int index) {
+        return rows[index];
+    }
+
+    public ImportLogLevel getLevel(int index) {
+        return LEVELS[levels[index]];
+    }
+
+    public int getCode(int index) {
+        return codes[index];
+    }
+
+    public String getIdentifier(int index) {
+        return "Row " + rows[index];
+    }
+
+    public String getMessage(int index) {
+        return ImportLogTemplates.format(codes[index], args[index]);
+    }
+
+    public int count(ImportLogLevel level) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (levels[i] == level.ordinal()) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Renders the entries as DTOs, for callers that need the full per-row detail as objects.
+     */
+    public List<EmployeeImportLogEntryDTO> toEntries() {
+        List<EmployeeImportLogEntryDTO> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(EmployeeImportLogEntryDTO.builder()
+                    .level(getLevel(i))
+                    .identifier(getIdentifier(i))
+                    .message(getMessage(i))
+                    .build());
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,99 @@
+package com.globaledge.academy.lms.employee.imports.model;
+
+import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+
+import java.util.*;
+
+/**
+ * Aggregated view of an import log: one line per level and message template, with the number
+ * of rows it occurred on and the first few row numbers, e.g.
+ * "Optional field 'Phone Number' is missing or empty. (48,212 rows, e.g. rows 2, 5, 9)".
+ *
+ * Filled chunk by chunk, its size depends on the number of distinct templates, not on the file.
+ */
+public class ImportLogSummary {
+
+    private static final int SAMPLE_ROWS = 5;
+
+    private final Map<Long, Line> lines = new LinkedHashMap<>();
+
+    private static class Line {
+        private final ImportLogLevel level;
+        private final int code;
+        private final int[] sampleRows = new int[SAMPLE_ROWS];
+        private int count;
+
+        Line(ImportLogLevel level, int code) {
+            this.level = level;
+            this.code = code;
+        }
+    }
+
+    public void add(ImportLogBuffer buffer) {
+        for (int i = 0; i < buffer.size(); i++) {
+            ImportLogLevel level = buffer.getLevel(i);
+            int code = buffer.getCode(i);
+            Line line = lines.computeIfAbsent(((long) level.ordinal() << 32) | code, key -> new Line(level, code));
+            if (line.count < SAMPLE_ROWS) {
+                line.sampleRows[line.count] = buffer.getRow(i);
+            }
+            line.count++;
+        }
+    }
+
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    /**
+     * @return One entry per level and template, errors first, then by descending row count.
+     */
+    public List<EmployeeImportLogEntryDTO> toEntries() {
+        List<EmployeeImportLogEntryDTO> entries = new ArrayList<>(lines.size());
+        for (Line line : sortedLines()) {
+            entries.add(EmployeeImportLogEntryDTO.builder()
+                    .level(line.level)
+                    .identifier(String.format("%,d rows", line.count))
+                    .message(describe(line))
+                    .build());
+        }
+        return entries;
+    }
+
+    /**
+     * @return Plain text summary, one line per template, for the import history.
+     */
+    public String toText(int maxLines) {
+        StringBuilder text = new StringBuilder();
+        List<Line> sorted = sortedLines();
+        for (int i = 0; i < sorted.size() && i < maxLines; i++) {
+            Line line = sorted.get(i);
+            text.append(line.level).append(": ").append(describe(line)).append('\n');
+        }
+        if (sorted.size() > maxLines) {
+            text.append("... and ").append(sorted.size() - maxLines).append(" more kinds of messages. See log file for details.");
+        }
+        return text.toString().trim();
+    }
+
+    private List<Line> sortedLines() {
+        List<Line> sorted = new ArrayList<>(lines.values());
+        sorted.sort(Comparator.comparing((Line line) -> line.level)
+                .thenComparing(line -> line.count, Comparator.reverseOrder()));
+        return sorted;
+    }
+
+    private String describe(Line line) {
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < Math.min(line.count, SAMPLE_ROWS); i++) {
+            if (i > 0) rows.append(", ");
+            rows.append(line.sampleRows[i]);
+        }
+        String message = ImportLogTemplates.template(line.code).replace(ImportLogTemplates.PLACEHOLDER, "...");
+        if (line.count == 1) {
+            return String.format("%s (row %s)", message, rows);
+        }
+        return String.format("%s (%,d rows, e.g. rows %s)", message, line.count, rows);
+    }
+}
@@ -0,0 +1,66 @@
+package com.globaledge.academy.lms.employee.imports.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide pool of interned import log message templates.
+ *
+ * A template is the constant part of a log message, e.g. "Invalid email format: '{}'.".
+ * Values taken from the row go into the '{}' placeholders as arguments, so the number of
+ * templates stays small (one per validator message and field) and every log entry only
+ * needs an int code instead of its own message string.
+ *
+ * Templates must not embed row values, otherwise the pool would grow with the file.
+ */
+public final class ImportLogTemplates {
+
+    public static final String PLACEHOLDER = "{}";
+
+    private static final Map<String, Integer> CODES = new ConcurrentHashMap<>();
+    private static final List<String> TEMPLATES = new CopyOnWriteArrayList<>();
+
+    private ImportLogTemplates() {
+    }
+
+    /**
+     * @return The code of the template, registering it on first use.
+     */
+    public static int codeOf(String template) {
+        Integer code = CODES.get(template);
+        if (code != null) {
+            return code;
+        }
+        synchronized (TEMPLATES) {
+            return CODES.computeIfAbsent(template, t -> {
+                TEMPLATES.add(t);
+                return TEMPLATES.size() - 1;
+            });
+        }
+    }
+
+    public static String template(int code) {
+        return TEMPLATES.get(code);
+    }
+
+    /**
+     * Renders the template, replacing each '{}' with the next argument.
+     */
+    public static String format(int code, String[] args) {
+        String template = template(code);
+        if (args == null || args.length == 0) {
+            return template;
+        }
+        StringBuilder message = new StringBuilder(template.length() + 32);
+        int from = 0;
+        for (String arg : args) {
+            int at = template.indexOf(PLACEHOLDER, from);
+            if (at < 0) break;
+            message.append(template, from, at).append(arg);
+            from = at + PLACEHOLDER.length();
+        }
+        return message.append(template, from, template.length()).toString();
+    }
+}
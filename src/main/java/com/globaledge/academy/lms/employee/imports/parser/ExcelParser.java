@@ -1,14 +1,25 @@
 package com.globaledge.academy.lms.employee.imports.parser;
 
 
+import com.globaledge.academy.lms.employee.exception.InvalidFileFormatException;
+import com.globaledge.academy.lms.employee.imports.constants.EmployeeImportExcelHeaders;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Interface for a component that can parse an Excel file into a list of data records.
+ *
+ * Implementations are selected with the 'employee.import.parser' property:
+ * - dom       -> ApachePoiExcelParser (loads the whole workbook into memory)
+ * - streaming -> StreamingXssfExcelParser (reads rows lazily with constant memory)
  */
 public interface ExcelParser {
 
@@ -20,4 +31,83 @@ public interface ExcelParser {
      * @throws IOException if there is an error reading the file.
      */
     List<EmployeeImportRecord> parseFile(MultipartFile file) throws IOException;
-}
\ No newline at end of file
+
+    /**
+     * Reads an .xlsx file from disk as a lazy stream of records.
+     * The returned stream holds open file handles, so callers must close it
+     * (preferably with try-with-resources).
+     *
+     * @param file Path to the .xlsx file.
+     * @return A stream of EmployeeImportRecord in sheet order, skipping empty rows.
+     * @throws IOException if there is an error opening the file.
+     */
+    Stream<EmployeeImportRecord> streamFile(Path file) throws IOException;
+
+    /**
+     * Validates uploaded file:
+     * - not null
+     * - not empty
+     * - must be .xlsx file
+     */
+    default void validateFile(MultipartFile file) {
+
+        if (file == null || file.isEmpty()) {
+            throw new InvalidFileFormatException("Uploaded file is empty.");
+        }
+
+        String fileName = file.getOriginalFilename();
+        if (fileName == null || !fileName.toLowerCase().endsWith(".xlsx")) {
+            throw new InvalidFileFormatException(
+                    "Invalid file format. Only .xlsx files are supported."
+            );
+        }
+    }
+
+    /**
+     * Checks whether all required headers are present in Excel.
+     * If any mandatory header is missing, exception is thrown.
+     */
+    default void validateMandatoryHeaders(Map<String, Integer> headerMap) {
+
+        // Find missing headers
+        String missingHeaders = EmployeeImportExcelHeaders.MANDATORY_HEADERS.stream()
+                .filter(header -> !headerMap.containsKey(header))
+                .collect(Collectors.joining(", "));
+
+        if (!missingHeaders.isEmpty()) {
+            throw new InvalidFileFormatException(
+                    "Missing mandatory headers: " + missingHeaders
+            );
+        }
+    }
+
+    /**
+     * Builds an EmployeeImportRecord from a row, given a lookup of header name -> cell value.
+     *
+     * @param rowNumber The 1-based row number in the sheet (used for logging).
+     * @param valueByHeader Returns the trimmed cell value for a header, or null if absent.
+     */
+    default EmployeeImportRecord toRecord(int rowNumber, Function<String, String> valueByHeader) {
+        return EmployeeImportRecord.builder()
+                .rowNumber(rowNumber)
+                .importType(valueByHeader.apply(EmployeeImportExcelHeaders.IMPORT_TYPE))
+                .employeeId(valueByHeader.apply(EmployeeImportExcelHeaders.EMPLOYEE_ID))
+                .firstName(valueByHeader.apply(EmployeeImportExcelHeaders.FIRST_NAME))
+                .lastName(valueByHeader.apply(EmployeeImportExcelHeaders.LAST_NAME))
+                .email(valueByHeader.apply(EmployeeImportExcelHeaders.EMAIL))
+                .department(valueByHeader.apply(EmployeeImportExcelHeaders.DEPARTMENT))
+                .designation(valueByHeader.apply(EmployeeImportExcelHeaders.DESIGNATION))
+                .dateOfJoining(valueByHeader.apply(EmployeeImportExcelHeaders.DATE_OF_JOINING))
+                .phoneNumber(valueByHeader.apply(EmployeeImportExcelHeaders.PHONE_NUMBER))
+                .dateOfBirth(valueByHeader.apply(EmployeeImportExcelHeaders.DATE_OF_BIRTH))
+                .gender(valueByHeader.apply(EmployeeImportExcelHeaders.GENDER))
+                .domain(valueByHeader.apply(EmployeeImportExcelHeaders.DOMAIN))
+                .subDomain(valueByHeader.apply(EmployeeImportExcelHeaders.SUB_DOMAIN))
+                .employmentType(valueByHeader.apply(EmployeeImportExcelHeaders.EMPLOYMENT_TYPE))
+                .managerId(valueByHeader.apply(EmployeeImportExcelHeaders.MANAGER_ID))
+                .officeLocation(valueByHeader.apply(EmployeeImportExcelHeaders.OFFICE_LOCATION))
+                .workMode(valueByHeader.apply(EmployeeImportExcelHeaders.WORK_MODE))
+                .status(valueByHeader.apply(EmployeeImportExcelHeaders.STATUS))
+                .build();
+    }
+}
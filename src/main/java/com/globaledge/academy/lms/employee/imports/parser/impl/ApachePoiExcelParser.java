@@ -1,19 +1,22 @@
 package com.globaledge.academy.lms.employee.imports.parser.impl;
 
 import com.globaledge.academy.lms.employee.exception.InvalidFileFormatException;
-import com.globaledge.academy.lms.employee.imports.constants.EmployeeImportExcelHeaders;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
 import com.globaledge.academy.lms.employee.imports.parser.ExcelParser;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -21,9 +24,13 @@ import java.util.stream.StreamSupport;
  * using Apache POI library.
  *
  * It converts Excel rows into EmployeeImportRecord objects.
+ *
+ * The whole workbook is loaded into memory, so this parser is only suitable
+ * for small and medium files. Active when employee.import.parser=dom.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "employee.import.parser", havingValue = "dom")
 public class ApachePoiExcelParser implements ExcelParser {
 
     /**
@@ -36,8 +43,29 @@ public class ApachePoiExcelParser implements ExcelParser {
         validateFile(file);
 
         // Step 2: Open Excel file using Apache POI
-        try (InputStream inputStream = file.getInputStream();
-             Workbook workbook = new XSSFWorkbook(inputStream)) {
+        try (InputStream inputStream = file.getInputStream()) {
+            List<EmployeeImportRecord> records = parseWorkbook(inputStream);
+
+            log.info("Successfully parsed {} records from file: {}",
+                    records.size(), file.getOriginalFilename());
+
+            return records;
+        }
+    }
+
+    /**
+     * Loads the whole workbook from disk and exposes the parsed records as a stream.
+     * This parser is not lazy; use StreamingXssfExcelParser for very large files.
+     */
+    @Override
+    public Stream<EmployeeImportRecord> streamFile(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return parseWorkbook(inputStream).stream();
+        }
+    }
+
+    private List<EmployeeImportRecord> parseWorkbook(InputStream inputStream) throws IOException {
+        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
 
             // Step 3: Read the first sheet of Excel
             Sheet sheet = workbook.getSheetAt(0);
@@ -52,17 +80,11 @@ public class ApachePoiExcelParser implements ExcelParser {
             Map<String, Integer> headerMap = parseHeaders(headerRow);
 
             // Step 6: Read data rows (skip header row)
-            List<EmployeeImportRecord> records =
-                    StreamSupport.stream(sheet.spliterator(), false)
-                            .skip(1) // Skip header row
-                            .filter(row -> row != null && !isRowEmpty(row)) // Ignore empty rows
-                            .map(row -> parseRow(row, headerMap, row.getRowNum() + 1))
-                            .collect(Collectors.toList());
-
-            log.info("Successfully parsed {} records from file: {}",
-                    records.size(), file.getOriginalFilename());
-
-            return records;
+            return StreamSupport.stream(sheet.spliterator(), false)
+                    .skip(1) // Skip header row
+                    .filter(row -> row != null && !isRowEmpty(row)) // Ignore empty rows
+                    .map(row -> parseRow(row, headerMap, row.getRowNum() + 1))
+                    .collect(Collectors.toList());
         }
     }
 
@@ -84,35 +106,6 @@ public class ApachePoiExcelParser implements ExcelParser {
         return headerMap;
     }
 
-    /**
-     * Checks whether all required headers are present in Excel.
-     * If any mandatory header is missing, exception is thrown.
-     */
-    private void validateMandatoryHeaders(Map<String, Integer> headerMap) {
-
-        List<String> mandatoryHeaders = Arrays.asList(
-                EmployeeImportExcelHeaders.IMPORT_TYPE,
-                EmployeeImportExcelHeaders.EMPLOYEE_ID,
-                EmployeeImportExcelHeaders.FIRST_NAME,
-                EmployeeImportExcelHeaders.LAST_NAME,
-                EmployeeImportExcelHeaders.EMAIL,
-                EmployeeImportExcelHeaders.DEPARTMENT,
-                EmployeeImportExcelHeaders.DESIGNATION,
-                EmployeeImportExcelHeaders.DATE_OF_JOINING
-        );
-
-        // Find missing headers
-        String missingHeaders = mandatoryHeaders.stream()
-                .filter(header -> !headerMap.containsKey(header))
-                .collect(Collectors.joining(", "));
-
-        if (!missingHeaders.isEmpty()) {
-            throw new InvalidFileFormatException(
-                    "Missing mandatory headers: " + missingHeaders
-            );
-        }
-    }
-
     /**
      * Converts a single Excel row into EmployeeImportRecord object
      */
@@ -120,47 +113,7 @@ public class ApachePoiExcelParser implements ExcelParser {
                                           Map<String, Integer> headerMap,
                                           int rowNumber) {
 
-        return EmployeeImportRecord.builder()
-                .rowNumber(rowNumber)
-                .importType(getCellValue(row, headerMap, EmployeeImportExcelHeaders.IMPORT_TYPE))
-                .employeeId(getCellValue(row, headerMap, EmployeeImportExcelHeaders.EMPLOYEE_ID))
-                .firstName(getCellValue(row, headerMap, EmployeeImportExcelHeaders.FIRST_NAME))
-                .lastName(getCellValue(row, headerMap, EmployeeImportExcelHeaders.LAST_NAME))
-                .email(getCellValue(row, headerMap, EmployeeImportExcelHeaders.EMAIL))
-                .department(getCellValue(row, headerMap, EmployeeImportExcelHeaders.DEPARTMENT))
-                .designation(getCellValue(row, headerMap, EmployeeImportExcelHeaders.DESIGNATION))
-                .dateOfJoining(getCellValue(row, headerMap, EmployeeImportExcelHeaders.DATE_OF_JOINING))
-                .phoneNumber(getCellValue(row, headerMap, EmployeeImportExcelHeaders.PHONE_NUMBER))
-                .dateOfBirth(getCellValue(row, headerMap, EmployeeImportExcelHeaders.DATE_OF_BIRTH))
-                .gender(getCellValue(row, headerMap, EmployeeImportExcelHeaders.GENDER))
-                .domain(getCellValue(row, headerMap, EmployeeImportExcelHeaders.DOMAIN))
-                .subDomain(getCellValue(row, headerMap, EmployeeImportExcelHeaders.SUB_DOMAIN))
-                .employmentType(getCellValue(row, headerMap, EmployeeImportExcelHeaders.EMPLOYMENT_TYPE))
-                .managerId(getCellValue(row, headerMap, EmployeeImportExcelHeaders.MANAGER_ID))
-                .officeLocation(getCellValue(row, headerMap, EmployeeImportExcelHeaders.OFFICE_LOCATION))
-                .workMode(getCellValue(row, headerMap, EmployeeImportExcelHeaders.WORK_MODE))
-                .status(getCellValue(row, headerMap, EmployeeImportExcelHeaders.STATUS))
-                .build();
-    }
-
-    /**
-     * Validates uploaded file:
-     * - not null
-     * - not empty
-     * - must be .xlsx file
-     */
-    private void validateFile(MultipartFile file) {
-
-        if (file == null || file.isEmpty()) {
-            throw new InvalidFileFormatException("Uploaded file is empty.");
-        }
-
-        String fileName = file.getOriginalFilename();
-        if (fileName == null || !fileName.toLowerCase().endsWith(".xlsx")) {
-            throw new InvalidFileFormatException(
-                    "Invalid file format. Only .xlsx files are supported."
-            );
-        }
+        return toRecord(rowNumber, headerName -> getCellValue(row, headerMap, headerName));
     }
 
     /**
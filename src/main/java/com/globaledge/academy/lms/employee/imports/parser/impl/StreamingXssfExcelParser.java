@@ -0,0 +1,334 @@
+package com.globaledge.academy.lms.employee.imports.parser.impl;
+
+import com.globaledge.academy.lms.employee.exception.EmployeeImportProcessingException;
+import com.globaledge.academy.lms.employee.exception.InvalidFileFormatException;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.parser.ExcelParser;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming .xlsx parser built on POI's event API (XSSFReader + read-only shared strings table).
+ *
+ * Instead of building the XSSFWorkbook DOM, the first sheet's XML is pulled row by row,
+ * so memory stays constant regardless of the number of rows. Only the shared strings
+ * table and the styles table are kept in memory.
+ *
+ * Active when employee.import.parser=streaming or the property is not set.
+ *
+ * Note: formula cells yield their cached result instead of the formula text.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.import.parser", havingValue = "streaming", matchIfMissing = true)
+public class StreamingXssfExcelParser implements ExcelParser {
+
+    @Override
+    public List<EmployeeImportRecord> parseFile(MultipartFile file) throws IOException {
+        validateFile(file);
+
+        // The event API needs random access to the zip, so spool the upload to disk first
+        Path tempFile = Files.createTempFile("employee-import-", ".xlsx");
+        try {
+            file.transferTo(tempFile);
+            try (Stream<EmployeeImportRecord> records = streamFile(tempFile)) {
+                List<EmployeeImportRecord> result = records.collect(Collectors.toList());
+                log.info("Successfully parsed {} records from file: {}", result.size(), file.getOriginalFilename());
+                return result;
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public Stream<EmployeeImportRecord> streamFile(Path file) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        } catch (OpenXML4JException | RuntimeException e) {
+            throw new InvalidFileFormatException("The uploaded file is not a valid .xlsx workbook.");
+        }
+
+        SheetRowIterator rows = null;
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new InvalidFileFormatException("The Excel file does not contain any sheet.");
+            }
+
+            // Only the first sheet is imported, same as the DOM parser
+            rows = new SheetRowIterator(pkg, sheets.next(), sharedStrings, styles);
+
+            // Header row must be the first row of the sheet
+            SheetRow headerRow = rows.hasNext() ? rows.next() : null;
+            if (headerRow == null || headerRow.rowNumber() != 1) {
+                throw new InvalidFileFormatException("Header row is missing from the Excel file.");
+            }
+
+            Map<String, Integer> headerMap = new HashMap<>();
+            headerRow.cells().forEach((column, value) -> headerMap.put(value.trim(), column));
+            validateMandatoryHeaders(headerMap);
+
+            SheetRowIterator dataRows = rows;
+            return StreamSupport.stream(
+                            Spliterators.spliteratorUnknownSize(dataRows, Spliterator.ORDERED | Spliterator.NONNULL),
+                            false)
+                    .filter(row -> !row.isEmpty())
+                    .map(row -> toRecord(row.rowNumber(), headerName -> {
+                        Integer column = headerMap.get(headerName);
+                        String value = (column == null) ? null : row.cells().get(column);
+                        return (value == null) ? null : value.trim();
+                    }))
+                    .onClose(dataRows::close);
+
+        } catch (OpenXML4JException | SAXException e) {
+            closeQuietly(rows, pkg);
+            throw new InvalidFileFormatException("The uploaded file is not a valid .xlsx workbook.");
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(rows, pkg);
+            throw e;
+        }
+    }
+
+    private void closeQuietly(SheetRowIterator rows, OPCPackage pkg) {
+        if (rows != null) {
+            rows.close();
+        } else {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * A single sheet row: 1-based row number and column index -> raw cell text.
+     */
+    private record SheetRow(int rowNumber, Map<Integer, String> cells) {
+
+        boolean isEmpty() {
+            return cells.values().stream().allMatch(value -> value.trim().isEmpty());
+        }
+    }
+
+    /**
+     * Pull-based iterator over the &lt;row&gt; elements of a worksheet part.
+     * Converts each cell to a String using the same rules as the DOM parser.
+     */
+    private static final class SheetRowIterator implements Iterator<SheetRow>, AutoCloseable {
+
+        private final OPCPackage pkg;
+        private final InputStream sheetStream;
+        private final XMLStreamReader xml;
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+
+        private SheetRow nextRow;
+        private int lastRowNumber = 0;
+        private boolean closed = false;
+
+        SheetRowIterator(OPCPackage pkg,
+                         InputStream sheetStream,
+                         ReadOnlySharedStringsTable sharedStrings,
+                         StylesTable styles) throws IOException {
+            this.pkg = pkg;
+            this.sheetStream = sheetStream;
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            try {
+                this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+            } catch (XMLStreamException e) {
+                throw new IOException("Unable to read worksheet XML", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null && !closed) {
+                nextRow = readNextRow();
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public SheetRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SheetRow row = nextRow;
+            nextRow = null;
+            return row;
+        }
+
+        private SheetRow readNextRow() {
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                        return readRow();
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new EmployeeImportProcessingException("Failed to read rows from the Excel file.", e);
+            }
+        }
+
+        private SheetRow readRow() throws XMLStreamException {
+            String rowRef = xml.getAttributeValue(null, "r");
+            int rowNumber = (rowRef != null) ? Integer.parseInt(rowRef) : lastRowNumber + 1;
+            lastRowNumber = rowNumber;
+
+            Map<Integer, String> cells = new HashMap<>();
+            int nextColumn = 0;
+
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                    String cellRef = xml.getAttributeValue(null, "r");
+                    int column = (cellRef != null) ? columnIndex(cellRef) : nextColumn;
+                    nextColumn = column + 1;
+                    String value = readCell(xml.getAttributeValue(null, "t"), xml.getAttributeValue(null, "s"));
+                    if (value != null) {
+                        cells.put(column, value);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                    break;
+                }
+            }
+            return new SheetRow(rowNumber, cells);
+        }
+
+        /**
+         * Reads the content of a &lt;c&gt; element and converts it to text.
+         */
+        private String readCell(String type, String styleIndex) throws XMLStreamException {
+            String rawValue = null;
+            StringBuilder inlineText = null;
+
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("v".equals(name)) {
+                        rawValue = xml.getElementText();
+                    } else if ("t".equals(name)) {
+                        // Inline strings: <is><t>..</t></is> or rich text runs <is><r><t>..</t></r></is>
+                        if (inlineText == null) {
+                            inlineText = new StringBuilder();
+                        }
+                        inlineText.append(xml.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                    break;
+                }
+            }
+
+            if ("inlineStr".equals(type)) {
+                return inlineText == null ? "" : inlineText.toString();
+            }
+            if (rawValue == null) {
+                return null;
+            }
+
+            switch (type == null ? "n" : type) {
+                case "s":
+                    return sharedStrings.getItemAt(Integer.parseInt(rawValue)).getString();
+                case "b":
+                    return String.valueOf("1".equals(rawValue));
+                case "e":
+                    return "";
+                case "str":
+                case "d":
+                    return rawValue;
+                default:
+                    return formatNumeric(rawValue, styleIndex);
+            }
+        }
+
+        /**
+         * Numeric cells: dates become yyyy-MM-dd, whole numbers lose the ".0" (IDs, phone numbers).
+         */
+        private String formatNumeric(String rawValue, String styleIndex) {
+            double numericValue;
+            try {
+                numericValue = Double.parseDouble(rawValue);
+            } catch (NumberFormatException e) {
+                return rawValue;
+            }
+
+            if (styleIndex != null && styles != null) {
+                XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(styleIndex));
+                if (style != null
+                        && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())
+                        && DateUtil.isValidExcelDate(numericValue)) {
+                    return DateUtil.getLocalDateTime(numericValue).toLocalDate().toString();
+                }
+            }
+
+            return (numericValue == (long) numericValue)
+                    ? String.valueOf((long) numericValue)
+                    : String.valueOf(numericValue);
+        }
+
+        /**
+         * Converts the column letters of a cell reference (e.g. "AB12") into a 0-based index.
+         */
+        private static int columnIndex(String cellRef) {
+            int column = 0;
+            for (int i = 0; i < cellRef.length(); i++) {
+                char ch = cellRef.charAt(i);
+                if (ch < 'A' || ch > 'Z') {
+                    break;
+                }
+                column = column * 26 + (ch - 'A' + 1);
+            }
+            return column - 1;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                xml.close();
+            } catch (XMLStreamException e) {
+                log.debug("Failed to close worksheet reader: {}", e.getMessage());
+            }
+            try {
+                sheetStream.close();
+            } catch (IOException e) {
+                log.debug("Failed to close worksheet stream: {}", e.getMessage());
+            }
+            // Read-only package: revert closes it without trying to save
+            pkg.revert();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.globaledge.academy.lms.employee.imports.service;
 
 
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportHistoryDTO;
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportProgressDTO;
 import org.springframework.core.io.Resource;
 
 import java.util.List;
@@ -30,7 +31,16 @@ public interface EmployeeImportHistoryService {
      * Retrieves the log file generated for a specific import job as a downloadable resource.
      *
      * @param importId The ID of the import job.
+     * @param detail If true, the per-row log instead of the aggregated summary (when the import was logged aggregated).
      * @return A Spring Resource representing the log file.
      */
-    Resource downloadLogFile(Long importId);
-}
\ No newline at end of file
+    Resource downloadLogFile(Long importId, boolean detail);
+
+    /**
+     * Retrieves the live progress of an import job (rows parsed, validated, persisted, users created, throughput).
+     *
+     * @param importId The ID of the import job.
+     * @return A DTO with the current progress counters.
+     */
+    EmployeeImportProgressDTO getImportProgress(Long importId);
+}
@@ -17,4 +17,22 @@
          * @return A DTO summarizing the result of the import operation.
          */
         EmployeeImportResultDTO importEmployees(MultipartFile file, String importedBy);
+
+        /**
+         * Queues an import job to run in the background and returns immediately.
+         * The file is spooled to disk before this method returns.
+         *
+         * @param file The Excel file containing employee records.
+         * @param importedBy The identifier of the user performing the import.
+         * @return A DTO with the import ID and QUEUED status; poll the progress endpoint for updates.
+         */
+        EmployeeImportResultDTO submitImport(MultipartFile file, String importedBy);
+
+        /**
+         * Requests cancellation of a queued or running import job.
+         * The job stops at the next chunk boundary; chunks already committed are kept.
+         *
+         * @param importId The ID of the import job.
+         */
+        void cancelImport(Long importId);
     }
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.globaledge.academy.lms.employee.imports.service.impl;
+
+import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.enums.ImportStrategyType;
+import com.globaledge.academy.lms.employee.event.EmployeesCreatedEvent;
+import com.globaledge.academy.lms.employee.imports.mapper.EmployeeImportMapper;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportChunkResult;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
+import com.globaledge.academy.lms.employee.imports.model.ImportLogBuffer;
+import com.globaledge.academy.lms.employee.imports.strategy.EmployeeImportStrategy;
+import com.globaledge.academy.lms.employee.imports.validator.chain.EmployeeImportValidator;
+import com.globaledge.academy.lms.employee.repository.EmployeeJdbcRepository;
+import com.globaledge.academy.lms.user.dto.BulkUserCreationSummary;
+import com.globaledge.academy.lms.user.service.BulkUserCreationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Runs one chunk of the import pipeline: validate (no transaction, validation never touches the
+ * database), then in its own transaction: apply import strategy -> create user accounts -> flush/clear -> commit.
+ * New employees are announced with an EmployeesCreatedEvent, delivered to listeners after the commit.
+ *
+ * Every batch statement runs in a savepoint (NESTED), so a failing batch does not leave the chunk
+ * transaction aborted (PostgreSQL rejects every later statement of an aborted transaction). The rows
+ * of a failed batch are retried one by one, each in its own savepoint, and only the rows that still
+ * fail are reported as system errors.
+ *
+ * Kept as a separate bean so the @Transactional boundaries are applied through the Spring proxy
+ * (self-invocation from EmployeeImportServiceImpl would bypass them).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeImportChunkProcessor {
+
+    private final EmployeeImportValidator validator;
+    private final EmployeeImportMapper mapper;
+    private final Map<String, EmployeeImportStrategy> importStrategyMap;
+    private final BulkUserCreationService bulkUserCreationService;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate savepointTemplate;
+
+    @PostConstruct
+    void init() {
+        savepointTemplate = new TransactionTemplate(transactionManager);
+        savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    /**
+     * Validates the records of a chunk against the import-scoped reference snapshot.
+     *
+     * @param chunk The records of this chunk, in file order.
+     * @param validationContext The import-scoped reference snapshot, shared by all chunks.
+     * @return One result per record, in file order.
+     */
+    public List<EmployeeImportValidationResult> validateChunk(List<EmployeeImportRecord> chunk,
+                                                              EmployeeImportValidationContext validationContext) {
+        return validator.validateRecords(chunk, validationContext);
+    }
+
+    /**
+     * Writes the valid records of a validated chunk and commits them.
+     *
+     * @param validationResults The results of {@link #validateChunk}, in file order.
+     * @param importedBy The user performing the import.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public EmployeeImportChunkResult processChunk(List<EmployeeImportValidationResult> validationResults,
+                                                  String importedBy) {
+
+        List<Employee> processedEmployees = new ArrayList<>();
+        Set<String> createdEmployeeIds = new LinkedHashSet<>();
+        Map<String, String> managerLinks = new LinkedHashMap<>();
+
+        // Consecutive valid rows with the same import type are written as one batch,
+        // which keeps the row order semantics of the file (e.g. create then update of the same ID)
+        List<EmployeeImportValidationResult> run = new ArrayList<>();
+        ImportStrategyType runType = null;
+        for (EmployeeImportValidationResult result : validationResults) {
+            if (result.hasErrors()) continue;
+
+            ImportStrategyType strategyType = ImportStrategyType.fromCode(result.getRecord().getImportType());
+            if (strategyType != runType && !run.isEmpty()) {
+                processRun(runType, run, importedBy, processedEmployees, createdEmployeeIds, managerLinks);
+                run = new ArrayList<>();
+            }
+            runType = strategyType;
+            run.add(result);
+        }
+        if (!run.isEmpty()) {
+            processRun(runType, run, importedBy, processedEmployees, createdEmployeeIds, managerLinks);
+        }
+
+        BulkUserCreationSummary userCreationSummary = null;
+        if (!processedEmployees.isEmpty()) {
+            userCreationSummary = bulkUserCreationService.createUsersFromEmployees(processedEmployees);
+        }
+
+        // Push pending changes and detach everything so the persistence context does not grow across chunks
+        entityManager.flush();
+        entityManager.clear();
+
+        if (!createdEmployeeIds.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeesCreatedEvent(new ArrayList<>(createdEmployeeIds)));
+        }
+
+        ImportLogBuffer logs = new ImportLogBuffer(validationResults.size());
+        int errorCount = 0;
+        for (EmployeeImportValidationResult result : validationResults) {
+            logs.addAll(result.getLogs());
+            if (result.hasErrors()) errorCount++;
+        }
+
+        return EmployeeImportChunkResult.builder()
+                .recordCount(validationResults.size())
+                .successCount(processedEmployees.size())
+                .errorCount(errorCount)
+                .logs(logs)
+                .managerLinks(managerLinks)
+                .userCreationSummary(userCreationSummary)
+                .build();
+    }
+
+    private void processRun(ImportStrategyType strategyType,
+                            List<EmployeeImportValidationResult> run,
+                            String importedBy,
+                            List<Employee> processedEmployees,
+                            Set<String> createdEmployeeIds,
+                            Map<String, String> managerLinks) {
+        EmployeeImportStrategy strategy = importStrategyMap.get(strategyType.getBeanName());
+        List<EmployeeImportRecord> records = run.stream().map(EmployeeImportValidationResult::getRecord).toList();
+
+        List<Employee> written;
+        try {
+            written = writeInSavepoint(strategy, records, importedBy);
+        } catch (Exception e) {
+            log.warn("Batch of rows {}-{} failed, retrying row by row: {}", records.get(0).getRowNumber(),
+                    records.get(records.size() - 1).getRowNumber(), e.getMessage());
+            written = new ArrayList<>(run.size());
+            for (EmployeeImportValidationResult result : run) {
+                try {
+                    written.add(writeInSavepoint(strategy, List.of(result.getRecord()), importedBy).get(0));
+                } catch (Exception rowError) {
+                    log.error("System error while processing row {}: {}", result.getRecord().getRowNumber(),
+                            rowError.getMessage(), rowError);
+                    result.addError("System error: {}", rowError.getMessage());
+                    written.add(null);
+                }
+            }
+        }
+
+        for (int i = 0; i < written.size(); i++) {
+            Employee employee = written.get(i);
+            if (employee == null) continue;
+
+            processedEmployees.add(employee);
+            // The batch strategies only assign the primary key of employees that already existed
+            if (employee.getId() == null) {
+                createdEmployeeIds.add(employee.getEmployeeId());
+            }
+
+            // Manager linking is deferred to a set-based pass once every chunk is committed
+            String managerId = records.get(i).getManagerId();
+            if (managerId != null && !managerId.trim().isEmpty()) {
+                managerLinks.put(employee.getEmployeeId(), managerId.trim());
+            }
+        }
+    }
+
+    /**
+     * Maps and writes the records in a savepoint; on failure only the savepoint is rolled back.
+     * The entities are mapped again on every attempt because the strategies assign their IDs.
+     */
+    private List<Employee> writeInSavepoint(EmployeeImportStrategy strategy, List<EmployeeImportRecord> records,
+                                            String importedBy) {
+        return savepointTemplate.execute(status -> {
+            List<Employee> employees = new ArrayList<>(records.size());
+            for (EmployeeImportRecord record : records) {
+                employees.add(mapper.toEntity(record, importedBy));
+            }
+            return strategy.processBatch(employees, records);
+        });
+    }
+
+    /**
+     * Final pass: links employees to their managers with one UPDATE per batch of pairs,
+     * after all chunks have been committed so managers from later chunks are visible.
+     *
+     * @return number of employees whose manager was set or changed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int linkManagers(Map<String, String> managerLinks) {
+        return employeeJdbcRepository.linkManagers(managerLinks);
+    }
+}
@@ -2,6 +2,7 @@ package com.globaledge.academy.lms.employee.imports.service.impl;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportHistory;
 import com.globaledge.academy.lms.employee.exception.ResourceNotFoundException;
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportHistoryDTO;
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportProgressDTO;
 import com.globaledge.academy.lms.employee.imports.service.EmployeeImportHistoryService;
 import com.globaledge.academy.lms.employee.repository.EmployeeImportHistoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -44,26 +45,60 @@ public class EmployeeImportHistoryServiceImpl implements EmployeeImportHistorySe
     }
 
     @Override
-    public Resource downloadLogFile(Long importId) {
+    public Resource downloadLogFile(Long importId, boolean detail) {
         log.info("Request to download log file for import ID: {}", importId);
         EmployeeImportHistory history = historyRepository.findById(importId)
                 .orElseThrow(() -> new ResourceNotFoundException("Import history not found with ID: " + importId));
 
-        if (history.getLogFilePath() == null || history.getLogFilePath().isEmpty()) {
+        // Without an aggregated summary the main log file already has the per-row detail
+        String logFilePath = detail && history.getDetailLogFilePath() != null
+                ? history.getDetailLogFilePath()
+                : history.getLogFilePath();
+
+        if (logFilePath == null || logFilePath.isEmpty()) {
             throw new ResourceNotFoundException("No log file available for import ID: " + importId);
         }
 
         try {
-            Path filePath = Paths.get(history.getLogFilePath());
+            Path filePath = Paths.get(logFilePath);
             Resource resource = new UrlResource(filePath.toUri());
             if (resource.exists() && resource.isReadable()) {
-                log.info("Log file found and is readable: {}", history.getLogFilePath());
+                log.info("Log file found and is readable: {}", logFilePath);
                 return resource;
             } else {
-                throw new ResourceNotFoundException("Log file not found or cannot be read: " + history.getLogFilePath());
+                throw new ResourceNotFoundException("Log file not found or cannot be read: " + logFilePath);
             }
         } catch (MalformedURLException e) {
             throw new ResourceNotFoundException("Could not read log file path: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public EmployeeImportProgressDTO getImportProgress(Long importId) {
+        EmployeeImportHistory h = historyRepository.findById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import history not found with ID: " + importId));
+
+        Double percentComplete = null;
+        if (h.getTotalRecords() != null && h.getTotalRecords() > 0) {
+            percentComplete = Math.min(100.0, Math.round(h.getRowsValidated() * 1000.0 / h.getTotalRecords()) / 10.0);
+        }
+
+        return EmployeeImportProgressDTO.builder()
+                .importId(h.getId())
+                .fileName(h.getFileName())
+                .status(h.getStatus())
+                .totalRecords(h.getTotalRecords())
+                .rowsParsed(h.getRowsParsed())
+                .rowsValidated(h.getRowsValidated())
+                .rowsPersisted(h.getRowsPersisted())
+                .usersCreated(h.getUsersCreated())
+                .errorCount(h.getErrorCount())
+                .rowsPerSecond(h.getRowsPerSecond())
+                .percentComplete(percentComplete)
+                .cancelRequested(Boolean.TRUE.equals(h.getCancelRequested()))
+                .importedAt(h.getImportedAt())
+                .startedAt(h.getStartedAt())
+                .completedAt(h.getCompletedAt())
+                .build();
+    }
+}
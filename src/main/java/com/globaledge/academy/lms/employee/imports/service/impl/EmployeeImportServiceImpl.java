@@ -1,38 +1,38 @@
 package com.globaledge.academy.lms.employee.imports.service.impl;
 
-import com.globaledge.academy.lms.employee.entity.Employee;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportHistory;
 import com.globaledge.academy.lms.employee.enums.ImportStatus;
-import com.globaledge.academy.lms.employee.enums.ImportStrategyType;
 import com.globaledge.academy.lms.employee.exception.EmployeeImportProcessingException;
-import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+import com.globaledge.academy.lms.employee.exception.InvalidFileFormatException;
+import com.globaledge.academy.lms.employee.exception.ResourceNotFoundException;
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportResultDTO;
-import com.globaledge.academy.lms.employee.imports.mapper.EmployeeImportMapper;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportChunkResult;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
+import com.globaledge.academy.lms.employee.imports.model.ImportLogBuffer;
+import com.globaledge.academy.lms.employee.imports.model.ImportLogSummary;
 import com.globaledge.academy.lms.employee.imports.parser.ExcelParser;
 import com.globaledge.academy.lms.employee.imports.service.EmployeeImportService;
-import com.globaledge.academy.lms.employee.imports.strategy.EmployeeImportStrategy;
-import com.globaledge.academy.lms.employee.imports.validator.chain.EmployeeImportValidator;
 import com.globaledge.academy.lms.employee.imports.writer.ImportLogWriter;
 import com.globaledge.academy.lms.employee.repository.EmployeeImportHistoryRepository;
+import com.globaledge.academy.lms.employee.repository.EmployeeJdbcRepository;
 import com.globaledge.academy.lms.user.dto.BulkUserCreationSummary;
-import com.globaledge.academy.lms.user.service.BulkUserCreationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.*;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -40,118 +40,374 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class EmployeeImportServiceImpl implements EmployeeImportService {
 
+    /**
+     * Maximum number of aggregated message lines stored in the history's error summary.
+     */
+    private static final int ERROR_SUMMARY_LINES = 20;
+
     private final ExcelParser excelParser;
-    private final EmployeeImportValidator validator;
-    private final EmployeeImportMapper mapper;
+    private final EmployeeImportChunkProcessor chunkProcessor;
     private final ImportLogWriter logWriter;
     private final EmployeeImportHistoryRepository historyRepository;
-    private final Map<String, EmployeeImportStrategy> importStrategyMap;
-    private final BulkUserCreationService bulkUserCreationService;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final ThreadPoolTaskExecutor employeeImportExecutor;
+
+    @Value("${employee.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * detailed: the log file lists every error/warning per row.
+     * aggregated: the log file has one line per message with its row count; the per-row log
+     * is still written and can be downloaded with ?detail=true.
+     */
+    @Value("${employee.import.log.mode:detailed}")
+    private String logMode;
 
+    @Value("${employee.import.spool-dir:${java.io.tmpdir}/employee-imports}")
+    private String spoolDir;
+
+    /**
+     * Synchronous import: runs the whole job on the calling thread and returns the final result.
+     * The job is still recorded up front, so its progress can be polled while it runs.
+     */
     @Override
-    @Transactional
     public EmployeeImportResultDTO importEmployees(MultipartFile file, String importedBy) {
+        log.info("Starting employee import. File: {}, ImportedBy: {}", file.getOriginalFilename(), importedBy);
+
+        Path spooledFile = spool(file);
+        try {
+            EmployeeImportHistory history = historyRepository.save(newHistory(createImportContext(file, importedBy), ImportStatus.IN_PROGRESS));
+            return runImport(history.getId(), spooledFile);
+        } finally {
+            deleteSpooledFile(spooledFile);
+        }
+    }
+
+    /**
+     * Asynchronous import: spools the file, records a QUEUED job and hands it to the bounded
+     * import executor. Returns immediately with the import ID to poll.
+     */
+    @Override
+    public EmployeeImportResultDTO submitImport(MultipartFile file, String importedBy) {
+        log.info("Queueing employee import. File: {}, ImportedBy: {}", file.getOriginalFilename(), importedBy);
+
+        Path spooledFile = spool(file);
+        EmployeeImportHistory history = historyRepository.save(newHistory(createImportContext(file, importedBy), ImportStatus.QUEUED));
+        Long importId = history.getId();
+
         try {
-            log.info("Starting employee import. File: {}, ImportedBy: {}", file.getOriginalFilename(), importedBy);
+            employeeImportExecutor.execute(() -> runQueuedImport(importId, spooledFile));
+        } catch (TaskRejectedException e) {
+            deleteSpooledFile(spooledFile);
+            markFailed(importId, "Import rejected: the import queue is full.");
+            throw e;
+        }
+
+        log.info("Employee import {} queued.", importId);
+        return buildImportResult(history, null);
+    }
+
+    @Override
+    public void cancelImport(Long importId) {
+        EmployeeImportHistory history = historyRepository.findById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import history not found with ID: " + importId));
+
+        int updated = historyRepository.requestCancel(importId, List.of(ImportStatus.QUEUED, ImportStatus.IN_PROGRESS));
+        if (updated > 0) {
+            log.info("Cancellation requested for employee import {}.", importId);
+        } else {
+            log.info("Employee import {} is already {}; nothing to cancel.", importId, history.getStatus());
+        }
+    }
 
-            List<EmployeeImportRecord> records = excelParser.parseFile(file);
+    private void runQueuedImport(Long importId, Path spooledFile) {
+        try {
+            if (historyRepository.existsByIdAndCancelRequestedTrue(importId)) {
+                log.info("Employee import {} was cancelled before it started.", importId);
+                finishCancelledBeforeStart(importId);
+                return;
+            }
+            runImport(importId, spooledFile);
+        } catch (Exception e) {
+            // Already recorded on the history row by runImport; nobody is waiting for the exception
+            log.error("Employee import {} failed: {}", importId, e.getMessage(), e);
+        } finally {
+            deleteSpooledFile(spooledFile);
+        }
+    }
+
+    /**
+     * Chunked pipeline: records are streamed from the spooled file and pushed through
+     * validation, import strategy and user creation in chunks of 'employee.import.chunk-size'.
+     * Each chunk commits in its own transaction (see EmployeeImportChunkProcessor), so heap use
+     * and transaction length stay flat regardless of the file size.
+     * Manager links are applied at the end in a set-based pass.
+     *
+     * Progress is written to the history row after every chunk, and a cancellation request
+     * stops the job at the next chunk boundary.
+     */
+    private EmployeeImportResultDTO runImport(Long importId, Path spooledFile) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        historyRepository.markStarted(importId, ImportStatus.IN_PROGRESS, startedAt);
+        ImportLogWriter.Session logSession = null;
+
+        try {
+            EmployeeImportHistory job = historyRepository.findById(importId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Import history not found with ID: " + importId));
+            String importedBy = job.getImportedBy();
+
+            // PASS 0: Only the employee and manager IDs are kept, to build the reference snapshot
+            Set<String> employeeIdsInFile = new HashSet<>();
+            Set<String> managerIdsInFile = new HashSet<>();
+            int rowsParsed = 0;
+            try (Stream<EmployeeImportRecord> records = excelParser.streamFile(spooledFile)) {
+                Iterator<EmployeeImportRecord> iterator = records.iterator();
+                while (iterator.hasNext()) {
+                    EmployeeImportRecord record = iterator.next();
+                    if (record.getEmployeeId() != null) employeeIdsInFile.add(record.getEmployeeId());
+                    if (record.getManagerId() != null && !record.getManagerId().trim().isEmpty()) {
+                        managerIdsInFile.add(record.getManagerId());
+                    }
+                    if (++rowsParsed % chunkSize == 0) {
+                        historyRepository.updateParseProgress(importId, rowsParsed, 0);
+                    }
+                }
+            }
+            int totalRecords = rowsParsed;
+            historyRepository.updateParseProgress(importId, rowsParsed, totalRecords);
+
+            EmployeeImportValidationContext validationContext = loadReferenceSnapshot(employeeIdsInFile, managerIdsInFile);
+
+            // PASS 1: Validate, create/update employees and create user accounts chunk by chunk
+            int rowsValidated = 0, successCount = 0, errorCount = 0;
+            boolean cancelled = false;
+            int logCount = 0;
+            String logFileName = null;
+            ImportLogSummary logSummary = new ImportLogSummary();
+            Map<String, String> managerLinks = new LinkedHashMap<>();
+            BulkUserCreationSummary userCreationSummary = BulkUserCreationSummary.builder().build();
+
+            try (Stream<EmployeeImportRecord> records = excelParser.streamFile(spooledFile)) {
+                Iterator<EmployeeImportRecord> iterator = records.iterator();
+                List<EmployeeImportRecord> chunk = new ArrayList<>(chunkSize);
+
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() < chunkSize && iterator.hasNext()) continue;
+
+                    if (historyRepository.existsByIdAndCancelRequestedTrue(importId)) {
+                        log.info("Employee import {} cancelled after {} of {} records.", importId, rowsValidated, totalRecords);
+                        cancelled = true;
+                        break;
+                    }
 
-            Set<String> employeeIdsInBatch = records.stream()
-                    .map(EmployeeImportRecord::getEmployeeId)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toSet());
+                    EmployeeImportChunkResult chunkResult = processChunk(chunk, validationContext, importedBy);
+                    rowsValidated += chunkResult.getRecordCount();
+                    successCount += chunkResult.getSuccessCount();
+                    errorCount += chunkResult.getErrorCount();
 
-            List<EmployeeImportValidationResult> validationResults = validator.validateRecords(records, employeeIdsInBatch);
+                    // Log entries go to the log file as each chunk finishes instead of piling up in memory
+                    if (!chunkResult.getLogs().isEmpty()) {
+                        if (logSession == null) {
+                            logFileName = generateLogFileName(job.getFileName(), isAggregatedLog() ? "_detail" : "");
+                            logSession = logWriter.open(logFileName);
+                        }
+                        logSession.append(chunkResult.getLogs());
+                        logSummary.add(chunkResult.getLogs());
+                        logCount += chunkResult.getLogs().size();
+                    }
+                    managerLinks.putAll(chunkResult.getManagerLinks());
+                    userCreationSummary.merge(chunkResult.getUserCreationSummary());
 
-            // PASS 1: Create/update all employees and collect them in a map
-            Map<String, Employee> processedEmployeesMap = processRecordsPassOne(validationResults, importedBy);
-            int successCount = processedEmployeesMap.size();
+                    historyRepository.updateChunkProgress(importId, rowsValidated, successCount,
+                            userCreationSummary.getUsersCreated(), errorCount, rowsPerSecond(rowsValidated, startedAt));
+                    log.info("Import {}: processed {}/{} records ({} imported, {} with errors).",
+                            importId, rowsValidated, totalRecords, successCount, errorCount);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
 
-            // PASS 2: Link managers now that all employees are in the persistence context
-            linkManagersPassTwo(validationResults, processedEmployeesMap);
+            // PASS 2: Link managers now that all employees are committed (also for a cancelled job's committed chunks)
+            linkManagersPassTwo(managerLinks);
 
-            // PASS 3: Create user accounts for successfully imported employees
-            BulkUserCreationSummary userCreationSummary = null;
-            if (!processedEmployeesMap.isEmpty()) {
-                List<Employee> successfulEmployees = List.copyOf(processedEmployeesMap.values());
-                userCreationSummary = bulkUserCreationService.createUsersFromEmployees(successfulEmployees);
+            if (successCount > 0) {
                 log.info("User creation summary - Created: {}, Skipped: {}, Failed: {}",
                         userCreationSummary.getUsersCreated(),
                         userCreationSummary.getUsersSkipped(),
                         userCreationSummary.getUsersFailed());
+            } else {
+                userCreationSummary = null;
             }
 
-            List<EmployeeImportLogEntryDTO> allLogs = collectAllLogs(validationResults);
-            String logFilePath = null, logFileName = null;
-            if (!allLogs.isEmpty()) {
-                logFileName = generateLogFileName(Objects.requireNonNull(file.getOriginalFilename()));
-                logFilePath = logWriter.writeLogFile(allLogs, logFileName);
+            EmployeeImportHistory history = historyRepository.findById(importId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Import history not found with ID: " + importId));
+
+            String logFilePath = logSession == null ? null : logSession.finish();
+            String detailLogFilePath = null;
+            if (logFilePath != null && isAggregatedLog()) {
+                detailLogFilePath = logFilePath;
+                logFileName = generateLogFileName(history.getFileName(), "_summary");
+                logFilePath = logWriter.writeLogFile(logSummary.toEntries(), logFileName);
             }
 
-            int errorCount = (int) validationResults.stream().filter(EmployeeImportValidationResult::hasErrors).count();
-            int warningCount = allLogs.size() - errorCount;
-            ImportStatus status = determineImportStatus(successCount, errorCount, records.size());
+            int warningCount = logCount - errorCount;
+            ImportStatus status = cancelled
+                    ? ImportStatus.CANCELLED
+                    : determineImportStatus(successCount, errorCount, totalRecords);
 
-            EmployeeImportHistory history = saveImportHistory(
-                    createImportContext(file, importedBy),
-                    records.size(),
-                    successCount,
-                    errorCount,
-                    warningCount,
-                    status,
-                    logFilePath,
-                    logFileName
-            );
+            history.setTotalRecords(totalRecords);
+            history.setSuccessCount(successCount);
+            history.setErrorCount(errorCount);
+            history.setWarningCount(warningCount);
+            history.setStatus(status);
+            history.setLogFilePath(logFilePath);
+            history.setLogFileName(logFileName);
+            history.setDetailLogFilePath(detailLogFilePath);
+            if (!logSummary.isEmpty()) {
+                history.setErrorSummary(logSummary.toText(ERROR_SUMMARY_LINES));
+            }
+            history.setRowsParsed(rowsParsed);
+            history.setRowsValidated(rowsValidated);
+            history.setRowsPersisted(successCount);
+            history.setUsersCreated(userCreationSummary == null ? 0 : userCreationSummary.getUsersCreated());
+            history.setRowsPerSecond(rowsPerSecond(rowsValidated, startedAt));
+            history.setCompletedAt(LocalDateTime.now());
+            history = historyRepository.save(history);
 
-            log.info("Employee import completed. Status: {}, Success: {}, Errors: {}, Warnings: {}",
-                    status, successCount, errorCount, warningCount);
+            log.info("Employee import {} completed. Status: {}, Success: {}, Errors: {}, Warnings: {}",
+                    importId, status, successCount, errorCount, warningCount);
 
             return buildImportResult(history, userCreationSummary);
 
+        } catch (InvalidFileFormatException e) {
+            markFailed(importId, e.getMessage());
+            throw e;
         } catch (IOException e) {
+            markFailed(importId, e.getMessage());
             throw new EmployeeImportProcessingException("Failed to process the uploaded file.", e);
         } catch (Exception e) {
+            markFailed(importId, e.getMessage());
             throw new EmployeeImportProcessingException("An unexpected error occurred during import.", e);
+        } finally {
+            closeLogSession(logSession);
         }
     }
 
-    private Map<String, Employee> processRecordsPassOne(List<EmployeeImportValidationResult> validationResults, String importedBy) {
-        log.info("Starting pass one: Processing {} validation results.", validationResults.size());
-        return validationResults.stream()
-                .filter(result -> !result.hasErrors())
-                .map(result -> {
-                    try {
-                        ImportStrategyType strategyType = ImportStrategyType.fromCode(result.getRecord().getImportType());
-                        EmployeeImportStrategy strategy = importStrategyMap.get(strategyType.getBeanName());
-                        Employee employee = mapper.toEntity(result.getRecord(), importedBy);
-                        return strategy.process(employee, result.getRecord());
-                    } catch (Exception e) {
-                        log.error("System error during pass one for row {}: {}", result.getRecord().getRowNumber(), e.getMessage(), e);
-                        result.addError(validator.createLog(result.getRecord(), "System error: " + e.getMessage()));
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(Employee::getEmployeeId, Function.identity()));
+    private void closeLogSession(ImportLogWriter.Session logSession) {
+        if (logSession == null) return;
+        try {
+            logSession.close();
+        } catch (IOException e) {
+            log.warn("Could not close import log file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Validates one chunk and writes it in its own transaction. If the chunk cannot be committed,
+     * its records are reported as errors (keeping their validation messages) and the import
+     * continues with the next chunk.
+     */
+    private EmployeeImportChunkResult processChunk(List<EmployeeImportRecord> chunk,
+                                                   EmployeeImportValidationContext validationContext,
+                                                   String importedBy) {
+        List<EmployeeImportValidationResult> validationResults = chunkProcessor.validateChunk(chunk, validationContext);
+        try {
+            return chunkProcessor.processChunk(validationResults, importedBy);
+        } catch (Exception e) {
+            log.error("Chunk starting at row {} was rolled back: {}", chunk.get(0).getRowNumber(), e.getMessage(), e);
+            ImportLogBuffer logs = new ImportLogBuffer(chunk.size());
+            for (EmployeeImportValidationResult result : validationResults) {
+                // Rows that were valid were rolled back with the chunk
+                if (!result.hasErrors()) {
+                    result.addError("System error: {}", e.getMessage());
+                }
+                logs.addAll(result.getLogs());
+            }
+            return EmployeeImportChunkResult.builder()
+                    .recordCount(chunk.size())
+                    .errorCount(chunk.size())
+                    .logs(logs)
+                    .build();
+        }
     }
 
-    private void linkManagersPassTwo(List<EmployeeImportValidationResult> validationResults, Map<String, Employee> processedEmployeesMap) {
-        log.info("Starting pass two: Linking managers for {} processed employees.", processedEmployeesMap.size());
-        for (EmployeeImportValidationResult result : validationResults) {
-            if (result.hasErrors()) continue;
+    /**
+     * Builds the import-scoped reference snapshot: every manager ID referenced by the file that is
+     * not itself in the file is checked against the database with a single query, once per import.
+     * All chunks then validate manager references against this snapshot in memory.
+     */
+    private EmployeeImportValidationContext loadReferenceSnapshot(Set<String> employeeIdsInFile,
+                                                                  Set<String> managerIdsInFile) {
+        Set<String> externalManagerIds = new HashSet<>(managerIdsInFile);
+        externalManagerIds.removeAll(employeeIdsInFile);
 
-            String employeeId = result.getRecord().getEmployeeId();
-            String managerId = result.getRecord().getManagerId();
+        Set<String> existingManagerIds = employeeJdbcRepository.findExistingEmployeeIds(externalManagerIds);
+        log.info("Reference snapshot loaded: {} employee IDs in file, {} of {} external manager IDs exist.",
+                employeeIdsInFile.size(), existingManagerIds.size(), externalManagerIds.size());
 
-            if (managerId != null && !managerId.trim().isEmpty()) {
-                Employee employee = processedEmployeesMap.get(employeeId);
-                Employee manager = processedEmployeesMap.get(managerId);
+        return EmployeeImportValidationContext.snapshot(employeeIdsInFile, existingManagerIds);
+    }
 
-                if (employee != null && manager != null) {
-                    employee.setManager(manager);
-                }
+    private void linkManagersPassTwo(Map<String, String> managerLinks) {
+        log.info("Starting pass two: Linking managers for {} employees.", managerLinks.size());
+        int linked = 0;
+        Map<String, String> batch = new LinkedHashMap<>();
+        for (Map.Entry<String, String> link : managerLinks.entrySet()) {
+            batch.put(link.getKey(), link.getValue());
+            if (batch.size() == chunkSize) {
+                linked += chunkProcessor.linkManagers(batch);
+                batch = new LinkedHashMap<>();
             }
         }
+        linked += chunkProcessor.linkManagers(batch);
+        log.info("Pass two complete: {} manager links applied.", linked);
+    }
+
+    private double rowsPerSecond(int rows, LocalDateTime startedAt) {
+        long millis = Math.max(1, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        return Math.round(rows * 1000.0 / millis * 10) / 10.0;
+    }
+
+    private void markFailed(Long importId, String reason) {
+        historyRepository.findById(importId).ifPresent(history -> {
+            history.setStatus(ImportStatus.FAILED);
+            history.setErrorSummary(reason);
+            history.setCompletedAt(LocalDateTime.now());
+            historyRepository.save(history);
+        });
+    }
+
+    private void finishCancelledBeforeStart(Long importId) {
+        historyRepository.findById(importId).ifPresent(history -> {
+            history.setStatus(ImportStatus.CANCELLED);
+            history.setCompletedAt(LocalDateTime.now());
+            historyRepository.save(history);
+        });
+    }
+
+    /**
+     * Validates the upload and copies it to the spool directory, so the request thread
+     * can return (async mode) and the file can be streamed more than once.
+     */
+    private Path spool(MultipartFile file) {
+        excelParser.validateFile(file);
+        try {
+            Path dir = Files.createDirectories(Path.of(spoolDir));
+            Path spooledFile = Files.createTempFile(dir, "employee-import-", ".xlsx");
+            file.transferTo(spooledFile);
+            return spooledFile;
+        } catch (IOException e) {
+            throw new EmployeeImportProcessingException("Failed to store the uploaded file.", e);
+        }
+    }
+
+    private void deleteSpooledFile(Path spooledFile) {
+        if (spooledFile == null) return;
+        try {
+            Files.deleteIfExists(spooledFile);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled import file {}: {}", spooledFile, e.getMessage());
+        }
     }
 
     private EmployeeImportContext createImportContext(MultipartFile file, String importedBy) {
@@ -162,15 +418,14 @@ public class EmployeeImportServiceImpl implements EmployeeImportService {
                 .build();
     }
 
-    private List<EmployeeImportLogEntryDTO> collectAllLogs(List<EmployeeImportValidationResult> results) {
-        return results.stream()
-                .flatMap(r -> Stream.concat(r.getErrors().stream(), r.getWarnings().stream()))
-                .collect(Collectors.toList());
+    private String generateLogFileName(String originalFileName, String suffix) {
+        String name = originalFileName.replaceFirst("[.][^.]+$", "");
+        return String.format("%s_log_%s%s%s", name, LocalDateTime.now().toString().replaceAll("[:.]", "-"),
+                suffix, logWriter.getFileExtension());
     }
 
-    private String generateLogFileName(String originalFileName) {
-        String name = originalFileName.replaceFirst("[.][^.]+$", "");
-        return String.format("%s_log_%s.xlsx", name, LocalDateTime.now().toString().replaceAll("[:.]", "-"));
+    private boolean isAggregatedLog() {
+        return "aggregated".equalsIgnoreCase(logMode);
     }
 
     private ImportStatus determineImportStatus(int successCount, int errorCount, int totalRecords) {
@@ -180,28 +435,17 @@ public class EmployeeImportServiceImpl implements EmployeeImportService {
         return ImportStatus.SUCCESS;
     }
 
-    private EmployeeImportHistory saveImportHistory(
-            EmployeeImportContext ctx,
-            int total,
-            int success,
-            int error,
-            int warn,
-            ImportStatus status,
-            String logPath,
-            String logName) {
-
-        return historyRepository.save(EmployeeImportHistory.builder()
+    private EmployeeImportHistory newHistory(EmployeeImportContext ctx, ImportStatus status) {
+        return EmployeeImportHistory.builder()
                 .fileName(ctx.getFileName())
                 .fileSize(ctx.getFileSize())
-                .totalRecords(total)
-                .successCount(success)
-                .errorCount(error)
-                .warningCount(warn)
+                .totalRecords(0)
+                .successCount(0)
+                .errorCount(0)
+                .warningCount(0)
                 .status(status)
-                .logFilePath(logPath)
-                .logFileName(logName)
                 .importedBy(ctx.getImportedBy())
-                .build());
+                .build();
     }
 
     private EmployeeImportResultDTO buildImportResult(EmployeeImportHistory h, BulkUserCreationSummary userSummary) {
@@ -224,6 +468,10 @@ public class EmployeeImportServiceImpl implements EmployeeImportService {
 
     private String buildResultMessage(EmployeeImportHistory h) {
         switch (h.getStatus()) {
+            case QUEUED:
+                return String.format("Import %d queued. Poll /employees/import/%d/progress for status.", h.getId(), h.getId());
+            case IN_PROGRESS:
+                return "Import is in progress.";
             case SUCCESS:
                 return String.format("All %d records imported successfully.", h.getSuccessCount());
             case COMPLETED_WITH_WARNINGS:
@@ -234,9 +482,10 @@ public class EmployeeImportServiceImpl implements EmployeeImportService {
                         h.getSuccessCount(), h.getErrorCount());
             case FAILED:
                 return "Import failed. All records had critical errors. See log file for details.";
+            case CANCELLED:
+                return String.format("Import cancelled. %d records were imported before cancellation.", h.getSuccessCount());
             default:
                 return "Import process finished.";
         }
     }
 }
-
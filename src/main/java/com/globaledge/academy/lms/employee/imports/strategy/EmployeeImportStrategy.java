@@ -4,6 +4,9 @@ package com.globaledge.academy.lms.employee.imports.strategy;
 import com.globaledge.academy.lms.employee.entity.Employee;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Defines the contract for different employee import strategies.
  * This allows the application to handle record processing (create, update, etc.) in a pluggable manner.
@@ -18,4 +21,21 @@ public interface EmployeeImportStrategy {
      * @return The saved Employee entity if the operation was successful, or null if the record was skipped.
      */
     Employee process(Employee employee, EmployeeImportRecord record);
-}
\ No newline at end of file
+
+    /**
+     * Processes a batch of records (one import chunk) at once.
+     * Implementations should pre-fetch existing employees with a single query and write with JDBC batches;
+     * the default simply falls back to {@link #process} row by row.
+     *
+     * @param employees The Employee entities mapped from the Excel rows.
+     * @param records The original raw records, index-aligned with {@code employees}.
+     * @return A list index-aligned with the input: the written Employee, or null where the record was skipped.
+     */
+    default List<Employee> processBatch(List<Employee> employees, List<EmployeeImportRecord> records) {
+        List<Employee> results = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            results.add(process(employees.get(i), records.get(i)));
+        }
+        return results;
+    }
+}
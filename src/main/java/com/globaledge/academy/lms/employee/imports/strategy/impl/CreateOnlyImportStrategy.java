@@ -2,13 +2,18 @@ package com.globaledge.academy.lms.employee.imports.strategy.impl;
 
 
 import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeBatchIndex;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
 import com.globaledge.academy.lms.employee.imports.strategy.EmployeeImportStrategy;
+import com.globaledge.academy.lms.employee.repository.EmployeeJdbcRepository;
 import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Strategy implementation for creating new employees only (Code 101).
  * It will skip any record where the employee ID or email already exists in the database.
@@ -19,6 +24,7 @@ import org.springframework.stereotype.Component;
 public class CreateOnlyImportStrategy implements EmployeeImportStrategy {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
 
     @Override
     public Employee process(Employee employee, EmployeeImportRecord record) {
@@ -31,4 +37,33 @@ public class CreateOnlyImportStrategy implements EmployeeImportStrategy {
         log.debug("Creating new employee from row {}: {}", record.getRowNumber(), employee.getEmployeeId());
         return employeeRepository.save(employee);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Employee> processBatch(List<Employee> employees, List<EmployeeImportRecord> records) {
+        // One round trip for the whole batch instead of exists/find per row
+        EmployeeBatchIndex index = EmployeeBatchIndex.of(employeeRepository.findKeysByEmployeeIdInOrEmailIn(
+                EmployeeBatchIndex.employeeIdsOf(employees), EmployeeBatchIndex.emailsOf(employees)));
+
+        List<Employee> results = new ArrayList<>(employees.size());
+        List<Employee> toInsert = new ArrayList<>();
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            EmployeeImportRecord record = records.get(i);
+
+            // Also catches duplicates earlier in the same batch, since every insert is registered in the index
+            if (index.containsEmployeeId(employee.getEmployeeId()) || index.containsEmail(employee.getEmail())) {
+                log.warn("Skipping record for row {}: Employee with ID '{}' or email '{}' already exists.", record.getRowNumber(), record.getEmployeeId(), record.getEmail());
+                results.add(null);
+                continue;
+            }
+            index.register(employee.getEmployeeId(), employee.getEmail(), null);
+            toInsert.add(employee);
+            results.add(employee);
+        }
+
+        employeeJdbcRepository.batchInsert(toInsert);
+        log.debug("Created {} new employees in batch.", toInsert.size());
+        return results;
+    }
+}
@@ -2,19 +2,25 @@ package com.globaledge.academy.lms.employee.imports.strategy.impl;
 
 
 import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeBatchIndex;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
 import com.globaledge.academy.lms.employee.imports.strategy.EmployeeImportStrategy;
+import com.globaledge.academy.lms.employee.repository.EmployeeJdbcRepository;
 import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Component("updateExistingImportStrategy")
 @RequiredArgsConstructor
 public class UpdateExistingImportStrategy implements EmployeeImportStrategy {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
 
     @Override
     public Employee process(Employee employee, EmployeeImportRecord record) {
@@ -30,6 +36,41 @@ public class UpdateExistingImportStrategy implements EmployeeImportStrategy {
                 });
     }
 
+    @Override
+    public List<Employee> processBatch(List<Employee> employees, List<EmployeeImportRecord> records) {
+        // One round trip for the whole batch instead of exists/find per row
+        EmployeeBatchIndex index = EmployeeBatchIndex.of(employeeRepository.findKeysByEmployeeIdInOrEmailIn(
+                EmployeeBatchIndex.employeeIdsOf(employees), EmployeeBatchIndex.emailsOf(employees)));
+
+        List<Employee> results = new ArrayList<>(employees.size());
+        List<Employee> toUpdate = new ArrayList<>();
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            EmployeeImportRecord record = records.get(i);
+
+            if (!index.containsEmployeeId(employee.getEmployeeId())) {
+                log.warn("Skipping record for row {}: Employee with ID '{}' not found for update.", record.getRowNumber(), record.getEmployeeId());
+                results.add(null);
+                continue;
+            }
+            if (index.isEmailTakenByOther(employee.getEmail(), employee.getEmployeeId())) {
+                log.warn("Skipping record for row {}: Email '{}' already belongs to another employee.", record.getRowNumber(), record.getEmail());
+                results.add(null);
+                continue;
+            }
+            log.debug("Updating existing employee from row {}: {}", record.getRowNumber(), employee.getEmployeeId());
+            employee.setId(index.getId(employee.getEmployeeId()));
+            index.register(employee.getEmployeeId(), employee.getEmail(), employee.getId());
+            toUpdate.add(employee);
+            results.add(employee);
+        }
+
+        // The manager is NOT set here. It's handled in the service's second pass.
+        employeeJdbcRepository.batchUpdate(toUpdate);
+        return results;
+    }
+
     private void updateEmployeeFields(Employee existing, Employee updated) {
         existing.setFirstName(updated.getFirstName());
         existing.setLastName(updated.getLastName());
@@ -2,19 +2,27 @@ package com.globaledge.academy.lms.employee.imports.strategy.impl;
 
 
 import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeBatchIndex;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
 import com.globaledge.academy.lms.employee.imports.strategy.EmployeeImportStrategy;
+import com.globaledge.academy.lms.employee.repository.EmployeeJdbcRepository;
 import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @Component("upsertImportStrategy")
 @RequiredArgsConstructor
 public class UpsertImportStrategy implements EmployeeImportStrategy {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
 
     @Override
     public Employee process(Employee employee, EmployeeImportRecord record) {
@@ -30,6 +38,56 @@ public class UpsertImportStrategy implements EmployeeImportStrategy {
                 });
     }
 
+    /**
+     * Writes the whole batch with INSERT ... ON CONFLICT (employee_id) DO UPDATE,
+     * so creates and updates share the same JDBC batch.
+     *
+     * With reWriteBatchedInserts the driver sends a batch as one multi-row INSERT, and PostgreSQL rejects
+     * an ON CONFLICT DO UPDATE that affects the same row twice. A later row with the same employee ID
+     * therefore goes into a following batch, so it updates the earlier one as it does row by row.
+     */
+    @Override
+    public List<Employee> processBatch(List<Employee> employees, List<EmployeeImportRecord> records) {
+        // One round trip for the whole batch instead of exists/find per row
+        EmployeeBatchIndex index = EmployeeBatchIndex.of(employeeRepository.findKeysByEmployeeIdInOrEmailIn(
+                EmployeeBatchIndex.employeeIdsOf(employees), EmployeeBatchIndex.emailsOf(employees)));
+
+        List<Employee> results = new ArrayList<>(employees.size());
+        // Batch n holds the (n+1)-th occurrence of each employee ID
+        List<List<Employee>> toUpsert = new ArrayList<>();
+        Map<String, Integer> occurrences = new HashMap<>();
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            EmployeeImportRecord record = records.get(i);
+
+            // A conflict on the email column cannot be resolved by ON CONFLICT (employee_id) and would abort the batch
+            if (index.isEmailTakenByOther(employee.getEmail(), employee.getEmployeeId())) {
+                log.warn("Skipping record for row {}: Email '{}' already belongs to another employee.", record.getRowNumber(), record.getEmail());
+                results.add(null);
+                continue;
+            }
+            if (index.containsEmployeeId(employee.getEmployeeId())) {
+                log.debug("Upsert is updating employee from row {}: {}", record.getRowNumber(), employee.getEmployeeId());
+                employee.setId(index.getId(employee.getEmployeeId()));
+            } else {
+                log.debug("Upsert is creating new employee from row {}: {}", record.getRowNumber(), employee.getEmployeeId());
+            }
+            index.register(employee.getEmployeeId(), employee.getEmail(), employee.getId());
+            int batch = occurrences.merge(employee.getEmployeeId(), 1, Integer::sum) - 1;
+            if (batch == toUpsert.size()) {
+                toUpsert.add(new ArrayList<>());
+            }
+            toUpsert.get(batch).add(employee);
+            results.add(employee);
+        }
+
+        for (List<Employee> batch : toUpsert) {
+            employeeJdbcRepository.batchUpsert(batch);
+        }
+        return results;
+    }
+
     private void updateEmployeeFields(Employee existing, Employee updated) {
         existing.setFirstName(updated.getFirstName());
         existing.setLastName(updated.getLastName());
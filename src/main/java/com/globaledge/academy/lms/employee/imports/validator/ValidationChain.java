@@ -2,12 +2,11 @@ package com.globaledge.academy.lms.employee.imports.validator;
 
 
 
-import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
-import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 
-import java.util.Set;
+import java.util.List;
 
 /**
  * The base interface for a single link in the validation chain.
@@ -27,6 +26,17 @@ import java.util.Set;
  * - Mandatory fields invalid -> ERROR
  * - Optional fields missing -> WARNING
  * - Optional fields invalid -> WARNING
+ *
+ * Messages:
+ * - Reported with result.addError(template, args) / result.addWarning(template, args).
+ * - Values taken from the row go into '{}' placeholders, never into the template itself,
+ *   so identical messages share one interned template (see ImportLogTemplates).
+ *
+ * Threading:
+ * - validate() may be called for different records on several threads at once (parallel validation),
+ *   so it must only read the record and the shared context.
+ * - Validators that need data from the database (e.g. ManagerReferenceValidator) load it for the whole
+ *   batch in preload(), which runs once, on a single thread, before any validate() call.
  */
 public interface ValidationChain {
 
@@ -34,34 +44,17 @@ public interface ValidationChain {
      * Performs a specific validation check on the given record.
      *
      * @param result The container holding the record and its validation status.
-     * @param employeeIdsInBatch A set of all employee IDs from the current import file for cross-referencing.
+     * @param context Shared data for cross-referencing (employee IDs in the file, pre-loaded database lookups).
      */
-    void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch);
-
-    /**
-     * Creates a log entry with a custom log level.
-     *
-     * @param rec The employee import record being validated.
-     * @param msg The validation message.
-     * @param lvl The log level (ERROR or WARNING).
-     * @return EmployeeImportLogEntryDTO with the specified details.
-     */
-    default EmployeeImportLogEntryDTO createLog(EmployeeImportRecord rec, String msg, ImportLogLevel lvl) {
-        return EmployeeImportLogEntryDTO.builder()
-                .level(lvl)
-                .identifier("Row " + rec.getRowNumber())
-                .message(msg)
-                .build();
-    }
+    void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context);
 
     /**
-     * Creates an error log entry (default log level is ERROR).
+     * Loads whatever this validator needs from the database for all records of the batch,
+     * with set-based queries, and stores it in the context. Default: nothing to load.
      *
-     * @param rec The employee import record being validated.
-     * @param msg The validation error message.
-     * @return EmployeeImportLogEntryDTO with ERROR level.
+     * @param records All records about to be validated.
+     * @param context The context shared by every validate() call for these records.
      */
-    default EmployeeImportLogEntryDTO createLog(EmployeeImportRecord rec, String msg) {
-        return createLog(rec, msg, ImportLogLevel.ERROR);
+    default void preload(List<EmployeeImportRecord> records, EmployeeImportValidationContext context) {
     }
 }
\ No newline at end of file
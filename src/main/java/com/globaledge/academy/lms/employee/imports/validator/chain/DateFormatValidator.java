@@ -1,8 +1,8 @@
 package com.globaledge.academy.lms.employee.imports.validator.chain;
 
 
-import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
 import org.springframework.core.annotation.Order;
@@ -13,7 +13,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Order 4: Validates date fields and applies business rules.
@@ -45,7 +44,7 @@ public class DateFormatValidator implements ValidationChain {
     );
 
     @Override
-    public void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch) {
+    public void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context) {
         EmployeeImportRecord record = result.getRecord();
 
         // Validate Date of Joining (Mandatory)
@@ -56,12 +55,12 @@ public class DateFormatValidator implements ValidationChain {
 
         // Business rule: Date of Joining cannot be in the future
         if (joiningDate != null && joiningDate.isAfter(LocalDate.now())) {
-            result.addError(createLog(record, "Date of Joining cannot be in the future."));
+            result.addError("Date of Joining cannot be in the future.");
         }
 
         // Business rule: Employee should be at least 18 years old at joining
         if (birthDate != null && joiningDate != null && birthDate.plusYears(18).isAfter(joiningDate)) {
-            result.addWarning(createLog(record, "Employee appears to be less than 18 years old at the date of joining.", ImportLogLevel.WARNING));
+            result.addWarning("Employee appears to be less than 18 years old at the date of joining.");
         }
     }
 
@@ -82,7 +81,7 @@ public class DateFormatValidator implements ValidationChain {
                 return null;
             } else {
                 // Optional field missing -> WARNING
-                result.addWarning(createLog(result.getRecord(), "Optional field '" + fieldName + "' is missing or empty.", ImportLogLevel.WARNING));
+                result.addWarning("Optional field '" + fieldName + "' is missing or empty.");
                 return null;
             }
         }
@@ -98,9 +97,9 @@ public class DateFormatValidator implements ValidationChain {
 
         // If no format matches
         if (isMandatory) {
-            result.addError(createLog(result.getRecord(), "Invalid date format for " + fieldName + ": '" + dateStr + "'. Expected formats: yyyy-MM-dd, dd/MM/yyyy, MM/dd/yyyy, dd-MM-yyyy, yyyy/MM/dd."));
+            result.addError("Invalid date format for " + fieldName + ": '{}'. Expected formats: yyyy-MM-dd, dd/MM/yyyy, MM/dd/yyyy, dd-MM-yyyy, yyyy/MM/dd.", dateStr);
         } else {
-            result.addWarning(createLog(result.getRecord(), "Invalid date format for " + fieldName + ": '" + dateStr + "'. Expected formats: yyyy-MM-dd, dd/MM/yyyy, MM/dd/yyyy, dd-MM-yyyy, yyyy/MM/dd.", ImportLogLevel.WARNING));
+            result.addWarning("Invalid date format for " + fieldName + ": '{}'. Expected formats: yyyy-MM-dd, dd/MM/yyyy, MM/dd/yyyy, dd-MM-yyyy, yyyy/MM/dd.", dateStr);
         }
         return null;
     }
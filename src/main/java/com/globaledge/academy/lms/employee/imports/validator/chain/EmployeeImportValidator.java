@@ -1,16 +1,21 @@
 package com.globaledge.academy.lms.employee.imports.validator.chain;
 
-import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
-import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+import com.globaledge.academy.lms.employee.exception.EmployeeImportProcessingException;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -21,6 +26,12 @@ import java.util.stream.Collectors;
  *  - Collects all ValidationChain implementations
  *  - Executes them one by one for each record
  *
+ * Parallel mode (employee.import.validation.mode=parallel):
+ *  - Records are split across a dedicated ForkJoinPool
+ *  - Each record is still validated by all validators in @Order, on one thread
+ *  - Results keep the input order, and are identical to sequential mode
+ *    because validators only read the record and the pre-loaded context
+ *
  * Think of this class as:
  * 👉 "Validation Manager / Coordinator"
  */
@@ -45,6 +56,42 @@ public class EmployeeImportValidator {
      */
     private final List<ValidationChain> validators;
 
+    /**
+     * sequential | parallel
+     */
+    @Value("${employee.import.validation.mode:parallel}")
+    private String mode;
+
+    /**
+     * Worker threads for parallel mode; 0 means one per available processor.
+     */
+    @Value("${employee.import.validation.parallelism:0}")
+    private int parallelism;
+
+    /**
+     * Below this many records the fork/join overhead is not worth it, so validation stays sequential.
+     */
+    @Value("${employee.import.validation.parallel-threshold:500}")
+    private int parallelThreshold;
+
+    private ForkJoinPool validationPool;
+
+    @PostConstruct
+    public void init() {
+        if ("parallel".equalsIgnoreCase(mode)) {
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            validationPool = new ForkJoinPool(threads);
+            log.info("Parallel import validation enabled with {} threads.", threads);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (validationPool != null) {
+            validationPool.shutdown();
+        }
+    }
+
     /**
      * ENTRY POINT for validation.
      *
@@ -59,7 +106,7 @@ public class EmployeeImportValidator {
      *  - Used for cross-record validations (e.g., manager reference)
      *
      * @return
-     *  - List of validation results
+     *  - List of validation results, in the same order as the records
      *  - Each result contains:
      *      - original record
      *      - list of errors
@@ -69,50 +116,42 @@ public class EmployeeImportValidator {
             List<EmployeeImportRecord> records,
             Set<String> employeeIdsInBatch) {
 
+        return validateRecords(records, new EmployeeImportValidationContext(employeeIdsInBatch));
+    }
+
+    /**
+     * Same as above, with a caller-provided context.
+     */
+    public List<EmployeeImportValidationResult> validateRecords(
+            List<EmployeeImportRecord> records,
+            EmployeeImportValidationContext context) {
+
         log.info("Starting validation for {} records.", records.size());
 
         // STEP 1:
-        // Convert each EmployeeImportRecord into a ValidationResult
-        List<EmployeeImportValidationResult> results = records.stream()
-
-                .map(record -> {
-
-                    // STEP 2:
-                    // Create validation result object for THIS record
-                    EmployeeImportValidationResult result =
-                            EmployeeImportValidationResult.builder()
-                                    .record(record)
-                                    .build();
-
-                    // STEP 3:
-                    // Execute ALL validators one by one
-                    //
-                    // Flow:
-                    //  Validator 1 → Validator 2 → Validator 3 → ...
-                    //
-                    // Each validator:
-                    //  - reads record data
-                    //  - adds errors/warnings to result if needed
-                    validators.forEach(validator ->
-                            validator.validate(result, employeeIdsInBatch)
-                    );
-
-                    // STEP 4:
-                    // Return result after all validations are done
-                    return result;
-                })
-
-                // STEP 5:
-                // Collect all validation results into a list
-                .collect(Collectors.toList());
-
-        // STEP 6:
+        // Let validators that need the database load what they need for ALL records at once
+        // (single thread, before any validate() call)
+        validators.forEach(validator -> validator.preload(records, context));
+
+        // STEP 2:
+        // Validate every record, sequentially or split across the validation pool.
+        // Parallel streams keep encounter order when collecting to a list.
+        List<EmployeeImportValidationResult> results;
+        if (validationPool != null && records.size() >= parallelThreshold) {
+            results = validateInParallel(records, context);
+        } else {
+            results = records.stream()
+                    .map(record -> validateRecord(record, context))
+                    .collect(Collectors.toList());
+        }
+
+        // STEP 3:
         // Count how many records have errors
         long errorCount = results.stream()
                 .filter(EmployeeImportValidationResult::hasErrors)
                 .count();
 
-        // STEP 7:
+        // STEP 4:
         // Count how many records have warnings
         long warningCount = results.stream()
                 .filter(EmployeeImportValidationResult::hasWarnings)
@@ -121,42 +160,47 @@ public class EmployeeImportValidator {
         log.info("Validation complete. Found {} records with errors and {} records with warnings.",
                 errorCount, warningCount);
 
-        // STEP 8:
+        // STEP 5:
         // Return validation results back to Service layer
         return results;
     }
 
+    private List<EmployeeImportValidationResult> validateInParallel(
+            List<EmployeeImportRecord> records,
+            EmployeeImportValidationContext context) {
+        try {
+            return validationPool.submit(() -> records.parallelStream()
+                            .map(record -> validateRecord(record, context))
+                            .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmployeeImportProcessingException("Validation was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new EmployeeImportProcessingException("Validation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
     /**
-     * Helper method to create an ERROR log entry.
-     *
-     * NOTE:
-     * This method is kept only for backward compatibility.
-     * New validators should use ValidationChain.createLog().
+     * Runs the whole chain for ONE record.
      *
-     * @param record
-     *  - The Excel record that caused the error
+     * Flow:
+     *  Validator 1 → Validator 2 → Validator 3 → ...
      *
-     * @param message
-     *  - Error message to show in import log
-     *
-     * @return
-     *  - Log entry with ERROR level
+     * Each validator:
+     *  - reads record data
+     *  - adds errors/warnings to result if needed
      */
-    public EmployeeImportLogEntryDTO createLog(
+    private EmployeeImportValidationResult validateRecord(
             EmployeeImportRecord record,
-            String message) {
-
-        return EmployeeImportLogEntryDTO.builder()
-
-                // Log level = ERROR
-                .level(ImportLogLevel.ERROR)
-
-                // Identifier shown in log (e.g. "Row 5")
-                .identifier("Row " + record.getRowNumber())
+            EmployeeImportValidationContext context) {
 
-                // Actual error message
-                .message(message)
+        EmployeeImportValidationResult result =
+                EmployeeImportValidationResult.builder()
+                        .record(record)
+                        .build();
 
-                .build();
+        validators.forEach(validator -> validator.validate(result, context));
+        return result;
     }
 }
@@ -3,13 +3,12 @@ package com.globaledge.academy.lms.employee.imports.validator.chain;
 
 import com.globaledge.academy.lms.employee.enums.*;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-
 /**
  * Order 5: Validates enum fields.
  *
@@ -28,7 +27,7 @@ import java.util.Set;
 public class EnumFieldValidator implements ValidationChain {
 
     @Override
-    public void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch) {
+    public void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context) {
         EmployeeImportRecord record = result.getRecord();
 
         // Validate optional enum fields
@@ -58,10 +57,10 @@ public class EnumFieldValidator implements ValidationChain {
         if (value == null || value.trim().isEmpty()) {
             if (isMandatory) {
                 // Mandatory field missing -> ERROR
-                result.addError(createLog(result.getRecord(), "Mandatory field '" + fieldName + "' is missing or empty."));
+                result.addError("Mandatory field '" + fieldName + "' is missing or empty.");
             } else {
                 // Optional field missing -> WARNING
-                result.addWarning(createLog(result.getRecord(), "Optional field '" + fieldName + "' is missing or empty.", ImportLogLevel.WARNING));
+                result.addWarning("Optional field '" + fieldName + "' is missing or empty.");
             }
             return;
         }
@@ -72,10 +71,10 @@ public class EnumFieldValidator implements ValidationChain {
         } catch (IllegalArgumentException e) {
             if (isMandatory) {
                 // Mandatory field invalid -> ERROR
-                result.addError(createLog(result.getRecord(), "Invalid value '" + value + "' for mandatory field '" + fieldName + "'."));
+                result.addError("Invalid value '{}' for mandatory field '" + fieldName + "'.", value);
             } else {
                 // Optional field invalid -> WARNING
-                result.addWarning(createLog(result.getRecord(), "Invalid value '" + value + "' for field '" + fieldName + "'. Expected values: " + getEnumValues(enumClass) + ".", ImportLogLevel.WARNING));
+                result.addWarning("Invalid value '{}' for field '" + fieldName + "'. Expected values: " + getEnumValues(enumClass) + ".", value);
             }
         }
     }
@@ -2,7 +2,8 @@ package com.globaledge.academy.lms.employee.imports.validator.chain;
 
 
 
-import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
 import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
@@ -10,7 +11,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Order 6: Validates Manager ID references.
@@ -18,6 +22,10 @@ import java.util.Set;
  * Manager ID (Optional):
  * - Missing -> WARNING
  * - Not found in DB or batch -> WARNING
+ *
+ * This is the only validator that needs the database. During a file import the existing
+ * manager IDs come from the import-scoped snapshot; otherwise they are loaded for the whole
+ * batch in preload() with one query. Either way validate() is a pure in-memory lookup.
  */
 @Component
 @Order(6)
@@ -27,23 +35,37 @@ public class ManagerReferenceValidator implements ValidationChain {
     private final EmployeeRepository employeeRepository;
 
     @Override
-    public void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch) {
+    public void preload(List<EmployeeImportRecord> records, EmployeeImportValidationContext context) {
+        if (context.isReferencesPreloaded()) return;
+
+        // Only managers that are not part of the file itself need a database check
+        Set<String> managerIdsToCheck = records.stream()
+                .map(EmployeeImportRecord::getManagerId)
+                .filter(Objects::nonNull)
+                .filter(managerId -> !managerId.trim().isEmpty())
+                .filter(managerId -> !context.getEmployeeIdsInFile().contains(managerId))
+                .collect(Collectors.toSet());
+
+        if (!managerIdsToCheck.isEmpty()) {
+            context.addExistingEmployeeIds(employeeRepository.findExistingEmployeeIds(managerIdsToCheck));
+        }
+    }
+
+    @Override
+    public void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context) {
         String managerId = result.getRecord().getManagerId();
 
         // Check if Manager ID is missing
         if (managerId == null || managerId.trim().isEmpty()) {
             // Optional field missing -> WARNING
-            result.addWarning(createLog(result.getRecord(), "Optional field 'Manager ID' is missing or empty.", ImportLogLevel.WARNING));
+            result.addWarning("Optional field 'Manager ID' is missing or empty.");
             return;
         }
 
-        // If Manager ID is provided, validate it exists
-        boolean existsInDb = employeeRepository.existsByEmployeeId(managerId);
-        boolean existsInBatch = employeeIdsInBatch.contains(managerId);
-
-        if (!existsInDb && !existsInBatch) {
+        // If Manager ID is provided, validate it exists (in the file or in the pre-loaded DB ids)
+        if (!context.isKnownEmployeeId(managerId)) {
             // Manager ID not found -> WARNING
-            result.addWarning(createLog(result.getRecord(), "Manager ID '" + managerId + "' not found in the database or in the current import file. Linking will be skipped.", ImportLogLevel.WARNING));
+            result.addWarning("Manager ID '{}' not found in the database or in the current import file. Linking will be skipped.", managerId);
         }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.globaledge.academy.lms.employee.imports.validator.chain;
 
 
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
 import org.springframework.core.annotation.Order;
@@ -9,7 +10,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -32,7 +32,7 @@ import java.util.function.Function;
 public class MandatoryFieldValidator implements ValidationChain {
 
     @Override
-    public void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch) {
+    public void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context) {
         var record = result.getRecord();
 
         // Use LinkedHashMap to maintain order
@@ -48,7 +48,7 @@ public class MandatoryFieldValidator implements ValidationChain {
         mandatoryFields.forEach((fieldName, extractor) -> {
             String value = extractor.apply(record);
             if (value == null || value.trim().isEmpty()) {
-                result.addError(createLog(record, "Mandatory field '" + fieldName + "' is missing or empty."));
+                result.addError("Mandatory field '" + fieldName + "' is missing or empty.");
             }
         });
     }
@@ -1,14 +1,13 @@
 package com.globaledge.academy.lms.employee.imports.validator.chain;
 
 
-import com.globaledge.academy.lms.employee.enums.ImportLogLevel;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -35,7 +34,7 @@ public class OptionalFieldValidator implements ValidationChain {
     private static final Pattern PHONE_PATTERN = Pattern.compile("^[0-9]{10,15}$");
 
     @Override
-    public void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch) {
+    public void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context) {
         EmployeeImportRecord record = result.getRecord();
 
         // Validate Phone Number
@@ -61,13 +60,13 @@ public class OptionalFieldValidator implements ValidationChain {
 
         // Check if missing
         if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
-            result.addWarning(createLog(record, "Optional field 'Phone Number' is missing or empty.", ImportLogLevel.WARNING));
+            result.addWarning("Optional field 'Phone Number' is missing or empty.");
             return;
         }
 
         // Validate format
         if (!PHONE_PATTERN.matcher(phoneNumber.trim()).matches()) {
-            result.addWarning(createLog(record, "Invalid phone number format: '" + phoneNumber + "'. Expected 10-15 digits.", ImportLogLevel.WARNING));
+            result.addWarning("Invalid phone number format: '{}'. Expected 10-15 digits.", phoneNumber);
         }
     }
 
@@ -79,13 +78,13 @@ public class OptionalFieldValidator implements ValidationChain {
     private void validateStringField(EmployeeImportValidationResult result, String value, String fieldName, int maxLength) {
         // Check if missing
         if (value == null || value.trim().isEmpty()) {
-            result.addWarning(createLog(result.getRecord(), "Optional field '" + fieldName + "' is missing or empty.", ImportLogLevel.WARNING));
+            result.addWarning("Optional field '" + fieldName + "' is missing or empty.");
             return;
         }
 
         // Validate length
         if (value.length() > maxLength) {
-            result.addWarning(createLog(result.getRecord(), "Field '" + fieldName + "' exceeds maximum length of " + maxLength + " characters.", ImportLogLevel.WARNING));
+            result.addWarning("Field '" + fieldName + "' exceeds maximum length of " + maxLength + " characters.");
         }
     }
 }
\ No newline at end of file
@@ -2,13 +2,12 @@ package com.globaledge.academy.lms.employee.imports.validator.chain;
 
 
 import com.globaledge.academy.lms.employee.enums.ImportStrategyType;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationContext;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
 import com.globaledge.academy.lms.employee.imports.validator.ValidationChain;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-
 /**
  * Order 1: Validates the Import Type field.
  * This must be validated first as it determines the import strategy.
@@ -22,18 +21,18 @@ import java.util.Set;
 public class StrategyCodeValidator implements ValidationChain {
 
     @Override
-    public void validate(EmployeeImportValidationResult result, Set<String> employeeIdsInBatch) {
+    public void validate(EmployeeImportValidationResult result, EmployeeImportValidationContext context) {
         String code = result.getRecord().getImportType();
 
         // Check if Import Type is missing
         if (code == null || code.trim().isEmpty()) {
-            result.addError(createLog(result.getRecord(), "Mandatory field 'Import Type' is missing or empty."));
+            result.addError("Mandatory field 'Import Type' is missing or empty.");
             return;
         }
 
         // Check if the code from the Excel file maps to a valid enum constant
         if (ImportStrategyType.fromCode(code) == null) {
-            result.addError(createLog(result.getRecord(), "Invalid Import Type code: '" + code + "'. Must be 101, 102, or 103."));
+            result.addError("Invalid Import Type code: '{}'. Must be 101, 102, or 103.", code);
         }
     }
 }
\ No newline at end of file
@@ -3,15 +3,34 @@ package com.globaledge.academy.lms.employee.imports.writer;
 
 
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+import com.globaledge.academy.lms.employee.imports.model.ImportLogBuffer;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 
 /**
  * Interface for a component that writes import log entries to a file.
+ *
+ * The output format is selected with 'employee.import.log.format' (xlsx, csv or ndjson).
  */
 public interface ImportLogWriter {
 
+    /**
+     * @return The file extension of the logs written by this writer, e.g. ".xlsx" or ".csv.gz".
+     */
+    String getFileExtension();
+
+    /**
+     * Opens a log file that receives entries incrementally, e.g. as import chunks finish,
+     * so the complete log never has to be held in memory.
+     *
+     * @param fileName The name of the file to create (including {@link #getFileExtension()}).
+     * @return An open session; {@link Session#finish()} completes the file.
+     * @throws IOException if the file cannot be created.
+     */
+    Session open(String fileName) throws IOException;
+
     /**
      * Writes a list of log entries to a specified file.
      *
@@ -20,5 +39,38 @@ public interface ImportLogWriter {
      * @return The absolute path to the newly created log file.
      * @throws IOException if an error occurs during file writing.
      */
-    String writeLogFile(List<EmployeeImportLogEntryDTO> logEntries, String fileName) throws IOException;
-}
\ No newline at end of file
+    default String writeLogFile(List<EmployeeImportLogEntryDTO> logEntries, String fileName) throws IOException {
+        try (Session session = open(fileName)) {
+            session.append(logEntries);
+            return session.finish();
+        }
+    }
+
+    /**
+     * A log file being written. Closing a session that was not finished discards the partial file.
+     */
+    interface Session extends Closeable {
+
+        /**
+         * Appends entries to the end of the log.
+         */
+        void append(List<EmployeeImportLogEntryDTO> logEntries) throws IOException;
+
+        /**
+         * Appends compact entries to the end of the log; messages are rendered row by row while writing.
+         */
+        void append(ImportLogBuffer logEntries) throws IOException;
+
+        /**
+         * @return Number of entries appended so far.
+         */
+        int getEntryCount();
+
+        /**
+         * Completes the file.
+         *
+         * @return The path to the written log file.
+         */
+        String finish() throws IOException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.globaledge.academy.lms.employee.imports.writer.impl;
+
+import com.globaledge.academy.lms.employee.imports.constants.EmployeeImportExcelHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes import logs as gzip-compressed CSV (RFC 4180 quoting), with the same columns as the Excel log.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.import.log.format", havingValue = "csv")
+public class CsvImportLogWriter extends GzipTextImportLogWriter {
+
+    @Override
+    public String getFileExtension() {
+        return ".csv.gz";
+    }
+
+    @Override
+    protected void writeHeader(Writer writer) throws IOException {
+        writer.write(EmployeeImportExcelHeaders.LOG_LEVEL + "," + EmployeeImportExcelHeaders.LOG_IDENTIFIER + ","
+                + EmployeeImportExcelHeaders.LOG_MESSAGE + "\r\n");
+    }
+
+    @Override
+    protected void writeEntry(Writer writer, String level, String identifier, String message) throws IOException {
+        writer.write(escape(level));
+        writer.write(',');
+        writer.write(escape(identifier));
+        writer.write(',');
+        writer.write(escape(message));
+        writer.write("\r\n");
+    }
+
+    private String escape(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -4,11 +4,14 @@ package com.globaledge.academy.lms.employee.imports.writer.impl;
 
 import com.globaledge.academy.lms.employee.imports.constants.EmployeeImportExcelHeaders;
 import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+import com.globaledge.academy.lms.employee.imports.model.ImportLogBuffer;
 import com.globaledge.academy.lms.employee.imports.writer.ImportLogWriter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.io.FileOutputStream;
@@ -20,17 +23,37 @@ import java.util.List;
 
 /**
  * An implementation of ImportLogWriter that creates log files in Excel (.xlsx) format
- * using the Apache POI library.
+ * using the Apache POI streaming API (SXSSF).
+ *
+ * Only the last 'employee.import.log.row-window' rows are kept in memory; older rows are
+ * flushed to a temporary file. Column widths are fixed instead of auto-sized, because
+ * autoSizeColumn measures every cell of the column and does not work on flushed rows.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "employee.import.log.format", havingValue = "xlsx", matchIfMissing = true)
 public class ExcelImportLogWriter implements ImportLogWriter {
 
+    /**
+     * Column widths in characters: Level, Identifier, Message.
+     */
+    private static final int[] COLUMN_WIDTHS = {12, 16, 120};
+
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
     @Value("${employee.import.log.directory:./import-logs}")
     private String logDirectory;
 
+    @Value("${employee.import.log.row-window:500}")
+    private int rowWindow;
+
     @Override
-    public String writeLogFile(List<EmployeeImportLogEntryDTO> logEntries, String fileName) throws IOException {
+    public String getFileExtension() {
+        return ".xlsx";
+    }
+
+    @Override
+    public Session open(String fileName) throws IOException {
         // 1. Ensure the log directory exists
         Path logDirPath = Paths.get(logDirectory);
         if (!Files.exists(logDirPath)) {
@@ -38,38 +61,93 @@ public class ExcelImportLogWriter implements ImportLogWriter {
         }
 
         // 2. Define the full path for the new log file
-        String logFilePath = logDirPath.resolve(fileName).toString();
+        return new ExcelSession(logDirPath.resolve(fileName));
+    }
 
-        // 3. Use try-with-resources to automatically close the workbook and file stream
-        try (Workbook workbook = new XSSFWorkbook(); FileOutputStream fileOut = new FileOutputStream(logFilePath)) {
-            Sheet sheet = workbook.createSheet("Import Log");
-            CellStyle headerStyle = createHeaderStyle(workbook);
+    private class ExcelSession implements Session {
 
-            // 4. Create the header row
-            Row headerRow = sheet.createRow(0);
-            createHeaderCell(headerRow, 0, EmployeeImportExcelHeaders.LOG_LEVEL, headerStyle);
-            createHeaderCell(headerRow, 1, EmployeeImportExcelHeaders.LOG_IDENTIFIER, headerStyle);
-            createHeaderCell(headerRow, 2, EmployeeImportExcelHeaders.LOG_MESSAGE, headerStyle);
+        private final Path logFilePath;
+        private final SXSSFWorkbook workbook;
+        private final CellStyle headerStyle;
+        private Sheet sheet;
+        private int rowNum;
+        private int entryCount;
+        private boolean finished;
 
-            // 5. Populate the sheet with log entry data
-            int rowNum = 1;
+        ExcelSession(Path logFilePath) {
+            this.logFilePath = logFilePath;
+            this.workbook = new SXSSFWorkbook(rowWindow);
+            // Temp files of flushed rows are gzipped, they are mostly repeated messages
+            this.workbook.setCompressTempFiles(true);
+            this.headerStyle = createHeaderStyle(workbook);
+            newSheet();
+        }
+
+        @Override
+        public void append(List<EmployeeImportLogEntryDTO> logEntries) {
             for (EmployeeImportLogEntryDTO entry : logEntries) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(entry.getLevel().toString());
-                row.createCell(1).setCellValue(entry.getIdentifier());
-                row.createCell(2).setCellValue(entry.getMessage());
+                writeRow(entry.getLevel().toString(), entry.getIdentifier(), entry.getMessage());
+            }
+        }
+
+        @Override
+        public void append(ImportLogBuffer logEntries) {
+            for (int i = 0; i < logEntries.size(); i++) {
+                writeRow(logEntries.getLevel(i).toString(), logEntries.getIdentifier(i), logEntries.getMessage(i));
             }
+        }
 
-            // 6. Auto-size columns for better readability
-            for (int i = 0; i < 3; i++) {
-                sheet.autoSizeColumn(i);
+        private void writeRow(String level, String identifier, String message) {
+            if (rowNum == MAX_ROWS_PER_SHEET) {
+                newSheet();
             }
+            Row row = sheet.createRow(rowNum++);
+            row.createCell(0).setCellValue(level);
+            row.createCell(1).setCellValue(identifier);
+            row.createCell(2).setCellValue(message);
+            entryCount++;
+        }
+
+        @Override
+        public int getEntryCount() {
+            return entryCount;
+        }
 
-            // 7. Write the output to the file
-            workbook.write(fileOut);
-            log.info("Successfully wrote {} log entries to: {}", logEntries.size(), logFilePath);
+        @Override
+        public String finish() throws IOException {
+            try (FileOutputStream fileOut = new FileOutputStream(logFilePath.toFile())) {
+                workbook.write(fileOut);
+            }
+            finished = true;
+            log.info("Successfully wrote {} log entries to: {}", entryCount, logFilePath);
+            return logFilePath.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Also deletes the temporary sheet files
+            workbook.close();
+            if (!finished) {
+                Files.deleteIfExists(logFilePath);
+            }
+        }
+
+        /**
+         * Starts a sheet with the header row; a new one is started when a sheet is full.
+         */
+        private void newSheet() {
+            int index = workbook.getNumberOfSheets();
+            sheet = workbook.createSheet(index == 0 ? "Import Log" : "Import Log (" + (index + 1) + ")");
+            for (int i = 0; i < COLUMN_WIDTHS.length; i++) {
+                sheet.setColumnWidth(i, COLUMN_WIDTHS[i] * 256);
+            }
+
+            Row headerRow = sheet.createRow(0);
+            createHeaderCell(headerRow, 0, EmployeeImportExcelHeaders.LOG_LEVEL, headerStyle);
+            createHeaderCell(headerRow, 1, EmployeeImportExcelHeaders.LOG_IDENTIFIER, headerStyle);
+            createHeaderCell(headerRow, 2, EmployeeImportExcelHeaders.LOG_MESSAGE, headerStyle);
+            rowNum = 1;
         }
-        return logFilePath;
     }
 
     /**
@@ -93,4 +171,4 @@ public class ExcelImportLogWriter implements ImportLogWriter {
         cell.setCellValue(value);
         cell.setCellStyle(style);
     }
-}
\ No newline at end of file
+}
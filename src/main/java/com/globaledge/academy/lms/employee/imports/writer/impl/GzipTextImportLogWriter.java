@@ -0,0 +1,106 @@
+package com.globaledge.academy.lms.employee.imports.writer.impl;
+
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+import com.globaledge.academy.lms.employee.imports.model.ImportLogBuffer;
+import com.globaledge.academy.lms.employee.imports.writer.ImportLogWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Base class for line-oriented, gzip-compressed log formats (CSV, NDJSON).
+ *
+ * Entries are written straight to the compressed stream as they are appended, so memory use
+ * does not depend on the size of the log. Meant for imports that produce hundreds of
+ * thousands of warnings, where even a streamed .xlsx gets large and slow to open.
+ */
+@Slf4j
+public abstract class GzipTextImportLogWriter implements ImportLogWriter {
+
+    @Value("${employee.import.log.directory:./import-logs}")
+    private String logDirectory;
+
+    /**
+     * Writes the first line of the file, if the format has one.
+     */
+    protected abstract void writeHeader(Writer writer) throws IOException;
+
+    /**
+     * Writes one entry as a single line, including the line terminator.
+     */
+    protected abstract void writeEntry(Writer writer, String level, String identifier, String message) throws IOException;
+
+    @Override
+    public Session open(String fileName) throws IOException {
+        Path logDirPath = Paths.get(logDirectory);
+        if (!Files.exists(logDirPath)) {
+            Files.createDirectories(logDirPath);
+        }
+
+        Path logFilePath = logDirPath.resolve(fileName);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(logFilePath), 64 * 1024), StandardCharsets.UTF_8));
+        writeHeader(writer);
+        return new GzipSession(logFilePath, writer);
+    }
+
+    private class GzipSession implements Session {
+
+        private final Path logFilePath;
+        private final Writer writer;
+        private int entryCount;
+        private boolean finished;
+
+        GzipSession(Path logFilePath, Writer writer) {
+            this.logFilePath = logFilePath;
+            this.writer = writer;
+        }
+
+        @Override
+        public void append(List<EmployeeImportLogEntryDTO> logEntries) throws IOException {
+            for (EmployeeImportLogEntryDTO entry : logEntries) {
+                writeEntry(writer, entry.getLevel() == null ? null : entry.getLevel().name(), entry.getIdentifier(), entry.getMessage());
+                entryCount++;
+            }
+        }
+
+        @Override
+        public void append(ImportLogBuffer logEntries) throws IOException {
+            for (int i = 0; i < logEntries.size(); i++) {
+                writeEntry(writer, logEntries.getLevel(i).name(), logEntries.getIdentifier(i), logEntries.getMessage(i));
+                entryCount++;
+            }
+        }
+
+        @Override
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        @Override
+        public String finish() throws IOException {
+            writer.close();
+            finished = true;
+            log.info("Successfully wrote {} log entries to: {}", entryCount, logFilePath);
+            return logFilePath.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                writer.close();
+                Files.deleteIfExists(logFilePath);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.globaledge.academy.lms.employee.imports.writer.impl;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes import logs as gzip-compressed newline-delimited JSON: one
+ * {"level":..,"identifier":..,"message":..} object per line.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.import.log.format", havingValue = "ndjson")
+public class NdjsonImportLogWriter extends GzipTextImportLogWriter {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+
+    @Override
+    public String getFileExtension() {
+        return ".ndjson.gz";
+    }
+
+    @Override
+    protected void writeHeader(Writer writer) {
+        // NDJSON has no header line
+    }
+
+    @Override
+    protected void writeEntry(Writer writer, String level, String identifier, String message) throws IOException {
+        writer.write("{\"level\":");
+        writeString(writer, level);
+        writer.write(",\"identifier\":");
+        writeString(writer, identifier);
+        writer.write(",\"message\":");
+        writeString(writer, message);
+        writer.write("}\n");
+    }
+
+    private void writeString(Writer writer, String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        writer.write(ENCODER.quoteAsString(value));
+        writer.write('"');
+    }
+}
@@ -1,10 +1,17 @@
 package com.globaledge.academy.lms.employee.repository;
 
 
+import com.globaledge.academy.lms.employee.enums.ImportStatus;
 import com.globaledge.academy.lms.employee.imports.model.EmployeeImportHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +26,50 @@ public interface EmployeeImportHistoryRepository extends JpaRepository<EmployeeI
      * @return A list of all import history records.
      */
     List<EmployeeImportHistory> findAllByOrderByImportedAtDesc();
-}
\ No newline at end of file
+
+    /**
+     * Checks whether cancellation has been requested for a running import job.
+     * @param id The import history ID.
+     * @return true if the job should stop at the next chunk boundary.
+     */
+    boolean existsByIdAndCancelRequestedTrue(Long id);
+
+    /**
+     * Flags an import job for cancellation, only if it is still in one of the given statuses.
+     * @return The number of rows updated (0 if the job already finished).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmployeeImportHistory h SET h.cancelRequested = true WHERE h.id = :id AND h.status IN :statuses")
+    int requestCancel(@Param("id") Long id, @Param("statuses") Collection<ImportStatus> statuses);
+
+    /**
+     * Moves a job to a new status, e.g. QUEUED -> IN_PROGRESS when a worker picks it up.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmployeeImportHistory h SET h.status = :status, h.startedAt = :startedAt WHERE h.id = :id")
+    void markStarted(@Param("id") Long id, @Param("status") ImportStatus status,
+                       @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * Records parse progress (pre-pass over the file).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmployeeImportHistory h SET h.rowsParsed = :rowsParsed, h.totalRecords = :totalRecords WHERE h.id = :id")
+    void updateParseProgress(@Param("id") Long id, @Param("rowsParsed") int rowsParsed,
+                             @Param("totalRecords") int totalRecords);
+
+    /**
+     * Records progress after a committed chunk.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmployeeImportHistory h SET h.rowsValidated = :rowsValidated, h.rowsPersisted = :rowsPersisted, " +
+            "h.successCount = :rowsPersisted, h.usersCreated = :usersCreated, h.errorCount = :errorCount, " +
+            "h.rowsPerSecond = :rowsPerSecond WHERE h.id = :id")
+    void updateChunkProgress(@Param("id") Long id, @Param("rowsValidated") int rowsValidated,
+                             @Param("rowsPersisted") int rowsPersisted, @Param("usersCreated") int usersCreated,
+                             @Param("errorCount") int errorCount, @Param("rowsPerSecond") double rowsPerSecond);
+}
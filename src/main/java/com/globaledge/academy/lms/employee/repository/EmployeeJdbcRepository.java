@@ -0,0 +1,199 @@
+package com.globaledge.academy.lms.employee.repository;
+
+import com.globaledge.academy.lms.employee.entity.Employee;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based JDBC operations on the employees table that would be too chatty through JPA.
+ *
+ * Employee uses IDENTITY ids, which disables Hibernate insert batching, so bulk writes
+ * from the import go through JDBC batches here instead. PostgreSQL specific
+ * (ON CONFLICT, unnest over array parameters).
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeJdbcRepository {
+
+    /**
+     * Columns written from the import, in the order bound by {@link #bindImportColumns}.
+     */
+    private static final String IMPORT_COLUMNS =
+            "employee_id, first_name, last_name, email, department, designation, date_of_joining, " +
+            "phone_number, date_of_birth, gender, domain, sub_domain, employment_type, " +
+            "office_location, work_mode, status, imported_by";
+
+    private static final String IMPORT_VALUES = "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+    /**
+     * Fields copied onto an existing employee. Same set as the strategies' updateEmployeeFields:
+     * manager, importedBy and createdAt are left untouched.
+     */
+    private static final String UPDATABLE_COLUMNS_FROM_EXCLUDED = """
+            first_name = EXCLUDED.first_name,
+                   last_name = EXCLUDED.last_name,
+                   email = EXCLUDED.email,
+                   department = EXCLUDED.department,
+                   designation = EXCLUDED.designation,
+                   date_of_joining = EXCLUDED.date_of_joining,
+                   phone_number = EXCLUDED.phone_number,
+                   date_of_birth = EXCLUDED.date_of_birth,
+                   gender = EXCLUDED.gender,
+                   domain = EXCLUDED.domain,
+                   sub_domain = EXCLUDED.sub_domain,
+                   employment_type = EXCLUDED.employment_type,
+                   office_location = EXCLUDED.office_location,
+                   work_mode = EXCLUDED.work_mode,
+                   status = EXCLUDED.status,
+                   updated_at = now()""";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO employees (" + IMPORT_COLUMNS + ", created_at, updated_at) " +
+            "VALUES (" + IMPORT_VALUES + ", now(), now())";
+
+    private static final String UPSERT_SQL =
+            INSERT_SQL + " ON CONFLICT (employee_id) DO UPDATE SET " + UPDATABLE_COLUMNS_FROM_EXCLUDED;
+
+    private static final String UPDATE_SQL = """
+            UPDATE employees
+               SET first_name = ?, last_name = ?, email = ?, department = ?, designation = ?,
+                   date_of_joining = ?, phone_number = ?, date_of_birth = ?, gender = ?, domain = ?,
+                   sub_domain = ?, employment_type = ?, office_location = ?, work_mode = ?, status = ?,
+                   updated_at = now()
+             WHERE employee_id = ?
+            """;
+
+    private static final String LINK_MANAGERS_SQL = """
+            UPDATE employees e
+               SET manager_employee_id = l.manager_id,
+                   updated_at = now()
+              FROM unnest(?, ?) AS l(employee_id, manager_id)
+             WHERE e.employee_id = l.employee_id
+               AND e.manager_employee_id IS DISTINCT FROM l.manager_id
+               AND EXISTS (SELECT 1 FROM employees m WHERE m.employee_id = l.manager_id)
+            """;
+
+    private static final String FIND_EXISTING_EMPLOYEE_IDS_SQL =
+            "SELECT employee_id FROM employees WHERE employee_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    /**
+     * Inserts new employees as JDBC batches.
+     */
+    public void batchInsert(List<Employee> employees) {
+        if (employees.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, employees, batchSize, this::bindImportColumns);
+    }
+
+    /**
+     * Updates existing employees (matched by employee_id) as JDBC batches.
+     */
+    public void batchUpdate(List<Employee> employees) {
+        if (employees.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_SQL, employees, batchSize, this::bindUpdateColumns);
+    }
+
+    /**
+     * Inserts or updates employees with INSERT ... ON CONFLICT (employee_id) DO UPDATE, as JDBC batches.
+     */
+    public void batchUpsert(List<Employee> employees) {
+        if (employees.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT_SQL, employees, batchSize, this::bindImportColumns);
+    }
+
+    /**
+     * Links employees to their managers in a single UPDATE statement.
+     * Pairs whose manager does not exist are ignored.
+     *
+     * @param managerLinks employeeId -> managerId
+     * @return number of employee rows updated
+     */
+    public int linkManagers(Map<String, String> managerLinks) {
+        if (managerLinks.isEmpty()) {
+            return 0;
+        }
+        String[] employeeIds = managerLinks.keySet().toArray(String[]::new);
+        String[] managerIds = managerLinks.values().toArray(String[]::new);
+
+        return jdbcTemplate.update(LINK_MANAGERS_SQL, ps -> {
+            Array employeeIdArray = ps.getConnection().createArrayOf("varchar", employeeIds);
+            Array managerIdArray = ps.getConnection().createArrayOf("varchar", managerIds);
+            ps.setArray(1, employeeIdArray);
+            ps.setArray(2, managerIdArray);
+        });
+    }
+
+    /**
+     * Returns which of the given employee IDs exist, in one query whatever the number of IDs
+     * (a single array parameter instead of an IN list bound to thousands of parameters).
+     */
+    public Set<String> findExistingEmployeeIds(Collection<String> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        String[] ids = employeeIds.toArray(String[]::new);
+
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(FIND_EXISTING_EMPLOYEE_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", ids)),
+                rs -> {
+                    existing.add(rs.getString(1));
+                });
+        return existing;
+    }
+
+    private void bindImportColumns(PreparedStatement ps, Employee e) throws SQLException {
+        ps.setString(1, e.getEmployeeId());
+        ps.setString(2, e.getFirstName());
+        ps.setString(3, e.getLastName());
+        ps.setString(4, e.getEmail());
+        ps.setString(5, e.getDepartment());
+        ps.setString(6, e.getDesignation());
+        ps.setObject(7, e.getDateOfJoining(), Types.DATE);
+        ps.setString(8, e.getPhoneNumber());
+        ps.setObject(9, e.getDateOfBirth(), Types.DATE);
+        ps.setString(10, e.getGender() == null ? null : e.getGender().name());
+        ps.setString(11, e.getDomain());
+        ps.setString(12, e.getSubDomain());
+        ps.setString(13, e.getEmploymentType() == null ? null : e.getEmploymentType().name());
+        ps.setString(14, e.getOfficeLocation());
+        ps.setString(15, e.getWorkMode() == null ? null : e.getWorkMode().name());
+        ps.setString(16, e.getStatus() == null ? null : e.getStatus().name());
+        ps.setString(17, e.getImportedBy());
+    }
+
+    private void bindUpdateColumns(PreparedStatement ps, Employee e) throws SQLException {
+        ps.setString(1, e.getFirstName());
+        ps.setString(2, e.getLastName());
+        ps.setString(3, e.getEmail());
+        ps.setString(4, e.getDepartment());
+        ps.setString(5, e.getDesignation());
+        ps.setObject(6, e.getDateOfJoining(), Types.DATE);
+        ps.setString(7, e.getPhoneNumber());
+        ps.setObject(8, e.getDateOfBirth(), Types.DATE);
+        ps.setString(9, e.getGender() == null ? null : e.getGender().name());
+        ps.setString(10, e.getDomain());
+        ps.setString(11, e.getSubDomain());
+        ps.setString(12, e.getEmploymentType() == null ? null : e.getEmploymentType().name());
+        ps.setString(13, e.getOfficeLocation());
+        ps.setString(14, e.getWorkMode() == null ? null : e.getWorkMode().name());
+        ps.setString(15, e.getStatus() == null ? null : e.getStatus().name());
+        ps.setString(16, e.getEmployeeId());
+    }
+}
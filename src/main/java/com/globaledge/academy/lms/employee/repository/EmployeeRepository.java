@@ -3,9 +3,14 @@ package com.globaledge.academy.lms.employee.repository;
 
 import com.globaledge.academy.lms.employee.entity.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Spring Data JPA repository for the Employee entity.
@@ -21,6 +26,14 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     Optional<Employee> findByEmployeeId(String employeeId);
 
+    /**
+     * Finds the primary key of an employee by their unique employee ID, without loading the entity.
+     * @param employeeId The employee ID to search for.
+     * @return An Optional containing the primary key, or an empty Optional if not found.
+     */
+    @Query("SELECT e.id FROM Employee e WHERE e.employeeId = :employeeId")
+    Optional<Long> findIdByEmployeeId(@Param("employeeId") String employeeId);
+
     /**
      * Finds an employee by their unique email address.
      * @param email The email address to search for.
@@ -41,4 +54,35 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * @return true if an employee exists, false otherwise.
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Returns which of the given employee IDs exist, in a single query.
+     * @param employeeIds The employee IDs to check.
+     * @return The subset of employee IDs that exist in the database.
+     */
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.employeeId IN :employeeIds")
+    Set<String> findExistingEmployeeIds(@Param("employeeIds") Collection<String> employeeIds);
+
+    /**
+     * Loads the unique keys of all employees matching any of the given employee IDs or emails,
+     * in a single query. Used to pre-fetch a whole import chunk instead of checking row by row.
+     * @param employeeIds The employee IDs of the chunk.
+     * @param emails The email addresses of the chunk.
+     * @return The id, employeeId and email of every matching employee.
+     */
+    @Query("SELECT e.id AS id, e.employeeId AS employeeId, e.email AS email FROM Employee e " +
+            "WHERE e.employeeId IN :employeeIds OR e.email IN :emails")
+    List<EmployeeKey> findKeysByEmployeeIdInOrEmailIn(@Param("employeeIds") Collection<String> employeeIds,
+                                                      @Param("emails") Collection<String> emails);
+
+    /**
+     * Lightweight projection of an employee's unique keys.
+     */
+    interface EmployeeKey {
+        Long getId();
+
+        String getEmployeeId();
+
+        String getEmail();
+    }
+}
@@ -1,8 +1,12 @@
 // 🎯 enrollment/controller/EnrollmentController.java
 package com.globaledge.academy.lms.enrollment.controller;
 
+import com.globaledge.academy.lms.course.enums.CourseCategory;
+import com.globaledge.academy.lms.enrollment.dto.AvailableCoursesDto;
 import com.globaledge.academy.lms.enrollment.dto.EnrollmentDto;
 import com.globaledge.academy.lms.enrollment.dto.MyCoursesDto;
+import com.globaledge.academy.lms.enrollment.dto.ProgressSyncRequest;
+import com.globaledge.academy.lms.enrollment.dto.ProgressSyncResult;
 import com.globaledge.academy.lms.enrollment.service.EnrollmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,7 +14,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/enrollments")
@@ -22,14 +25,22 @@ public class EnrollmentController {
 
     @Operation(summary = "Get My Enrolled Courses")
     @GetMapping("/my-courses")
-    public ResponseEntity<MyCoursesDto> getMyEnrolledCourses(@RequestParam String employeeId) {
-        return ResponseEntity.ok(enrollmentService.getMyEnrolledCourses(employeeId));
+    public ResponseEntity<MyCoursesDto> getMyEnrolledCourses(
+            @RequestParam String employeeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(enrollmentService.getMyEnrolledCourses(employeeId, cursor, size, direction));
     }
 
     @Operation(summary = "Get Available Courses for Self-Enrollment")
     @GetMapping("/available-courses")
-    public ResponseEntity<List<EnrollmentDto>> getAvailableCourses(@RequestParam String employeeId) {
-        return ResponseEntity.ok(enrollmentService.getAvailableCourses(employeeId));
+    public ResponseEntity<AvailableCoursesDto> getAvailableCourses(
+            @RequestParam String employeeId,
+            @RequestParam(required = false) CourseCategory category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(enrollmentService.getAvailableCourses(employeeId, category, page, size));
     }
 
     @Operation(summary = "Self-Enroll in a Course")
@@ -48,6 +59,21 @@ public class EnrollmentController {
         return ResponseEntity.ok(enrollmentService.updateProgress(enrollmentId, progressPercentage));
     }
 
+    @Operation(summary = "Report Course Progress", description = "Buffered and written within a few seconds; for frequent reports from the player")
+    @PostMapping("/{enrollmentId}/progress")
+    public ResponseEntity<Void> reportProgress(
+            @PathVariable Long enrollmentId,
+            @RequestParam Integer progressPercentage) {
+        enrollmentService.reportProgress(enrollmentId, progressPercentage);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(summary = "Sync Course Progress", description = "Apply a batch of progress events, e.g. recorded offline, with one result per event")
+    @PostMapping("/progress/sync")
+    public ResponseEntity<ProgressSyncResult> syncProgress(@RequestBody ProgressSyncRequest request) {
+        return ResponseEntity.ok(enrollmentService.syncProgress(request.getEvents()));
+    }
+
     @Operation(summary = "Mark Course as Completed")
     @PostMapping("/{enrollmentId}/complete")
     public ResponseEntity<EnrollmentDto> markAsCompleted(@PathVariable Long enrollmentId) {
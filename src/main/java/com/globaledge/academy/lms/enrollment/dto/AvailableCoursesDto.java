@@ -0,0 +1,18 @@
+// 🎯 enrollment/dto/AvailableCoursesDto.java
+package com.globaledge.academy.lms.enrollment.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableCoursesDto {
+    private List<EnrollmentDto> courses;  // Current page, ordered by course ID
+    private Integer totalAvailable;
+    private Integer page;
+    private Integer size;
+    private Integer totalPages;
+}
@@ -0,0 +1,16 @@
+package com.globaledge.academy.lms.enrollment.dto;
+
+import lombok.*;
+
+/**
+ * Outcome of enrolling a set of employees in one course.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResult {
+    private int totalRequested;
+    private int enrollmentsCreated;
+    private int enrollmentsSkipped;  // Already enrolled
+}
@@ -10,9 +10,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MyCoursesDto {
-    private List<EnrollmentDto> enrolledCourses;
+    private List<EnrollmentDto> enrolledCourses;  // Current page, ordered by due date
     private Integer totalEnrolled;
     private Integer completedCount;
     private Integer inProgressCount;
     private Integer notStartedCount;
+    private Integer overdueCount;
+    private String nextCursor;  // Pass as 'cursor' for the next page; null on the last page
 }
\ No newline at end of file
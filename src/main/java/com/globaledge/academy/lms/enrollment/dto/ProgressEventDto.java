@@ -0,0 +1,19 @@
+// 🎯 enrollment/dto/ProgressEventDto.java
+package com.globaledge.academy.lms.enrollment.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A progress report recorded by a client, possibly while offline.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEventDto {
+    private Long enrollmentId;
+    private Integer progressPercentage;  // 0-100, 100 completes the enrollment
+    private LocalDateTime timestamp;     // When the client recorded it; orders events of the same enrollment
+}
@@ -0,0 +1,19 @@
+// 🎯 enrollment/dto/ProgressEventResult.java
+package com.globaledge.academy.lms.enrollment.dto;
+
+import com.globaledge.academy.lms.enrollment.enums.EnrollmentStatus;
+import com.globaledge.academy.lms.enrollment.enums.ProgressEventOutcome;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEventResult {
+    private int index;  // Position of the event in the request
+    private Long enrollmentId;
+    private ProgressEventOutcome outcome;
+    private Integer progressPercentage;  // Stored progress after the sync, when the enrollment exists
+    private EnrollmentStatus enrollmentStatus;
+    private String message;
+}
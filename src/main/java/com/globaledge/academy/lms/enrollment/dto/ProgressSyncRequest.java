@@ -0,0 +1,16 @@
+// 🎯 enrollment/dto/ProgressSyncRequest.java
+package com.globaledge.academy.lms.enrollment.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressSyncRequest {
+    @Builder.Default
+    private List<ProgressEventDto> events = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+// 🎯 enrollment/dto/ProgressSyncResult.java
+package com.globaledge.academy.lms.enrollment.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch of progress events, with one result per event in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressSyncResult {
+    private int totalEvents;
+    private int applied;
+    private int unchanged;
+    private int superseded;
+    private int failed;  // Not found or rejected
+    @Builder.Default
+    private List<ProgressEventResult> results = new ArrayList<>();
+}
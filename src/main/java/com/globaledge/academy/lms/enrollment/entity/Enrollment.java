@@ -6,6 +6,7 @@ import com.globaledge.academy.lms.employee.entity.Employee;
 import com.globaledge.academy.lms.enrollment.enums.*;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +15,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "enrollments",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "course_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "course_id"}),
+        indexes = @Index(name = "idx_enrollment_employee_due", columnList = "employee_id, due_date, enrollment_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -67,6 +69,15 @@ public class Enrollment {
 
     private String assignedBy; // Rule ID or username
 
+    /**
+     * Optimistic lock; the JDBC progress updates of EnrollmentJdbcRepository increment it as well.
+     */
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long version = 0L;
+
     @PrePersist
     protected void onCreate() {
         if (enrolledDate == null) {
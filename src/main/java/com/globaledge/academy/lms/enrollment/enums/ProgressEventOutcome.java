@@ -0,0 +1,10 @@
+// 🎯 enrollment/enums/ProgressEventOutcome.java
+package com.globaledge.academy.lms.enrollment.enums;
+
+public enum ProgressEventOutcome {
+    APPLIED,     // Progress raised (and the enrollment started or completed)
+    UNCHANGED,   // Stored progress was already as high
+    SUPERSEDED,  // A later event of the same batch was kept for this enrollment
+    NOT_FOUND,   // No such enrollment
+    REJECTED     // Invalid event
+}
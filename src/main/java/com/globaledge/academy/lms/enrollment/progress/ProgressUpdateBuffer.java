@@ -0,0 +1,98 @@
+package com.globaledge.academy.lms.enrollment.progress;
+
+import com.globaledge.academy.lms.enrollment.repository.EnrollmentJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Write-coalescing buffer for progress reports of the video player, which sends one every few
+ * seconds per active learner.
+ *
+ * Reports are kept in memory per enrollment ID, spread over 'enrollment.progress.buffer.shards'
+ * independently locked shards so concurrent requests rarely contend. Only the highest value per
+ * enrollment is kept (progress never goes back), so any number of reports between two flushes
+ * costs one row update. Every 'enrollment.progress.flush-interval-ms' the shards are swapped for
+ * empty ones and the drained values are written with one set-based UPDATE, which also applies the
+ * IN_PROGRESS / COMPLETED transitions. The buffer is flushed once more on shutdown.
+ *
+ * Reports not yet flushed are lost if the process dies; at most one interval of progress, which
+ * the player reports again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgressUpdateBuffer {
+
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Value("${enrollment.progress.buffer.shards:16}")
+    private int shardCount;
+
+    private Shard[] shards;
+
+    private static final class Shard {
+        private Map<Long, Integer> progressByEnrollment = new HashMap<>();
+    }
+
+    @PostConstruct
+    void init() {
+        shards = new Shard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Records a report; a lower value than one already buffered is ignored.
+     */
+    public void add(Long enrollmentId, int progressPercentage) {
+        Shard shard = shards[Math.floorMod(Long.hashCode(enrollmentId), shards.length)];
+        synchronized (shard) {
+            shard.progressByEnrollment.merge(enrollmentId, progressPercentage, Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${enrollment.progress.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        Map<Long, Integer> drained = new HashMap<>();
+        for (Shard shard : shards) {
+            Map<Long, Integer> shardUpdates;
+            synchronized (shard) {
+                if (shard.progressByEnrollment.isEmpty()) {
+                    continue;
+                }
+                shardUpdates = shard.progressByEnrollment;
+                shard.progressByEnrollment = new HashMap<>();
+            }
+            drained.putAll(shardUpdates);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            int updated = enrollmentJdbcRepository.applyProgress(drained);
+            log.debug("Flushed {} buffered progress updates ({} rows changed) in {} ms",
+                    drained.size(), updated, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // Keep the values for the next flush; merging with max makes the retry safe
+            log.error("Failed to flush {} progress updates, will retry: {}", drained.size(), e.getMessage());
+            drained.forEach(this::add);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        log.info("Flushing buffered progress updates before shutdown");
+        flush();
+    }
+}
@@ -0,0 +1,289 @@
+package com.globaledge.academy.lms.enrollment.repository;
+
+import com.globaledge.academy.lms.enrollment.dto.EnrollmentDto;
+import com.globaledge.academy.lms.enrollment.enums.AssignmentType;
+import com.globaledge.academy.lms.enrollment.enums.EnrollmentStatus;
+import com.globaledge.academy.lms.enrollment.enums.EnrollmentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Set-based JDBC operations on the enrollments table that would be too chatty through JPA,
+ * and the learner dashboard queries that read DTOs straight from enrollments joined with courses.
+ * PostgreSQL specific (ON CONFLICT, unnest over array parameters).
+ */
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentJdbcRepository {
+
+    /**
+     * Inserts one enrollment per employee that is not yet enrolled in the course.
+     * The NOT EXISTS anti-join skips existing enrollments up front; ON CONFLICT on the
+     * (employee_id, course_id) unique constraint covers rows inserted concurrently.
+     */
+    private static final String INSERT_MISSING_SQL = """
+            INSERT INTO enrollments (employee_id, course_id, enrollment_type, enrollment_status, assignment_type,
+                                     enrolled_date, due_date, progress_percentage, assigned_by, created_at, updated_at)
+            SELECT m.id, ?, ?, ?, ?, ?, ?, 0, ?, now(), now()
+              FROM (SELECT DISTINCT id FROM unnest(?::bigint[]) AS u(id)) m
+             WHERE NOT EXISTS (SELECT 1 FROM enrollments e WHERE e.employee_id = m.id AND e.course_id = ?)
+            ON CONFLICT (employee_id, course_id) DO NOTHING
+            """;
+
+    private static final String ENROLLMENT_COLUMNS = """
+            enrollment_id, course_id, enrollment_type, enrollment_status, assignment_type,
+            enrolled_date, due_date, completed_date, progress_percentage
+            """;
+
+    /**
+     * Self-enrollment in one statement: the (employee_id, course_id) unique constraint decides, so
+     * concurrent requests for the same pair never fail; only the one that inserted gets a row back.
+     */
+    private static final String INSERT_SELF_ENROLLMENT_SQL = """
+            INSERT INTO enrollments (employee_id, course_id, enrollment_type, enrollment_status, assignment_type,
+                                     enrolled_date, progress_percentage, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, 0, now(), now())
+            ON CONFLICT (employee_id, course_id) DO NOTHING
+            RETURNING\s""" + ENROLLMENT_COLUMNS;
+
+    private static final String FIND_ENROLLMENT_SQL =
+            "SELECT " + ENROLLMENT_COLUMNS + " FROM enrollments WHERE employee_id = ? AND course_id = ?";
+
+    /**
+     * Applies buffered progress values: progress only moves up (GREATEST), 100 completes the
+     * enrollment (completed date set once), any progress starts it. Rows whose progress would not
+     * increase are not touched.
+     */
+    private static final String APPLY_PROGRESS_SQL = """
+            UPDATE enrollments e
+               SET progress_percentage = u.progress,
+                   enrollment_status = CASE WHEN u.progress >= 100 THEN 'COMPLETED'
+                                            WHEN e.enrollment_status = 'COMPLETED' THEN e.enrollment_status
+                                            WHEN u.progress > 0 THEN 'IN_PROGRESS'
+                                            ELSE e.enrollment_status END,
+                   completed_date = CASE WHEN u.progress >= 100 THEN COALESCE(e.completed_date, CURRENT_DATE)
+                                         ELSE e.completed_date END,
+                   updated_at = now(),
+                   version = e.version + 1
+              FROM (SELECT u.id, GREATEST(en.progress_percentage, u.progress) AS progress
+                      FROM unnest(?::bigint[], ?::int[]) AS u(id, progress)
+                      JOIN enrollments en ON en.enrollment_id = u.id
+                     WHERE u.progress > en.progress_percentage) u
+             WHERE e.enrollment_id = u.id
+            """;
+
+    /**
+     * Current progress of the given enrollments, locked until the end of the transaction.
+     * Rows are locked in ID order so concurrent batches cannot deadlock on each other.
+     */
+    private static final String LOCK_PROGRESS_SQL = """
+            SELECT enrollment_id, progress_percentage, enrollment_status
+              FROM enrollments
+             WHERE enrollment_id = ANY(?)
+             ORDER BY enrollment_id
+               FOR UPDATE
+            """;
+
+    private static final String COUNT_BY_STATUS_SQL =
+            "SELECT enrollment_status, count(*) FROM enrollments WHERE employee_id = ? GROUP BY enrollment_status";
+
+    /**
+     * One page of an employee's enrollments with the course columns and the thumbnail media URL, ordered by
+     * due date (no due date last) and enrollment ID. Placeholders: keyset condition, sort direction.
+     */
+    private static final String MY_COURSES_PAGE_SQL = """
+            SELECT e.enrollment_id, e.course_id, c.title, c.description, m.s3_url, c.instructor,
+                   c.estimated_duration, e.enrollment_type, e.enrollment_status, e.assignment_type,
+                   e.enrolled_date, e.due_date, e.completed_date, e.progress_percentage
+              FROM enrollments e
+              JOIN courses c ON c.course_id = e.course_id
+              LEFT JOIN media m ON m.media_id = c.thumbnail_media_id
+             WHERE e.employee_id = ?%s
+             ORDER BY e.due_date %s NULLS LAST, e.enrollment_id
+             LIMIT ?
+            """;
+
+    /**
+     * Rows after the cursor row (due_date, enrollment_id) in the page order; %s is the due date comparison.
+     */
+    private static final String AFTER_DUE_DATE_CURSOR =
+            " AND (e.due_date %s ? OR (e.due_date = ? AND e.enrollment_id > ?) OR e.due_date IS NULL)";
+
+    private static final String AFTER_NO_DUE_DATE_CURSOR = " AND e.due_date IS NULL AND e.enrollment_id > ?";
+
+    /**
+     * Maps the {@link #ENROLLMENT_COLUMNS}.
+     */
+    private static final RowMapper<EnrollmentDto> ENROLLMENT_ROW_MAPPER = (rs, rowNum) -> EnrollmentDto.builder()
+            .enrollmentId(rs.getLong(1))
+            .courseId(rs.getLong(2))
+            .enrollmentType(EnrollmentType.valueOf(rs.getString(3)))
+            .enrollmentStatus(EnrollmentStatus.valueOf(rs.getString(4)))
+            .assignmentType(AssignmentType.valueOf(rs.getString(5)))
+            .enrolledDate(rs.getObject(6, LocalDate.class))
+            .dueDate(rs.getObject(7, LocalDate.class))
+            .completedDate(rs.getObject(8, LocalDate.class))
+            .progressPercentage(rs.getObject(9, Integer.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Progress columns of one enrollment.
+     */
+    public record ProgressState(int progressPercentage, EnrollmentStatus enrollmentStatus) {
+    }
+
+    /**
+     * Writes buffered progress values with a single UPDATE over array parameters.
+     *
+     * @param progressByEnrollment enrollment ID -> reported progress (0-100)
+     * @return number of enrollments changed
+     */
+    public int applyProgress(Map<Long, Integer> progressByEnrollment) {
+        if (progressByEnrollment.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = new Long[progressByEnrollment.size()];
+        Integer[] values = new Integer[ids.length];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : progressByEnrollment.entrySet()) {
+            ids[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return jdbcTemplate.update(APPLY_PROGRESS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("integer", values));
+        });
+    }
+
+    /**
+     * Inserts a self-enrollment unless the employee is already enrolled in the course.
+     *
+     * @param employeeId Primary key of the employee (employees.id).
+     * @return the new enrollment without course details, or empty if the employee was already enrolled
+     */
+    public Optional<EnrollmentDto> insertSelfEnrollment(Long employeeId, Long courseId, LocalDate enrolledDate) {
+        return jdbcTemplate.query(INSERT_SELF_ENROLLMENT_SQL, ENROLLMENT_ROW_MAPPER,
+                employeeId, courseId, EnrollmentType.OPTIONAL.name(), EnrollmentStatus.NOT_STARTED.name(),
+                AssignmentType.SELF_ENROLLED.name(), enrolledDate).stream().findFirst();
+    }
+
+    /**
+     * @param employeeId Primary key of the employee (employees.id).
+     * @return the employee's enrollment in the course without course details
+     */
+    public Optional<EnrollmentDto> findEnrollment(Long employeeId, Long courseId) {
+        return jdbcTemplate.query(FIND_ENROLLMENT_SQL, ENROLLMENT_ROW_MAPPER, employeeId, courseId)
+                .stream().findFirst();
+    }
+
+    /**
+     * Reads and locks (SELECT ... FOR UPDATE) the progress of the given enrollments; must run in a transaction.
+     *
+     * @return enrollment ID -> progress state; IDs that do not exist are absent
+     */
+    public Map<Long, ProgressState> lockProgress(Collection<Long> enrollmentIds) {
+        if (enrollmentIds.isEmpty()) {
+            return Map.of();
+        }
+        Long[] ids = enrollmentIds.toArray(Long[]::new);
+        Map<Long, ProgressState> states = new HashMap<>();
+        jdbcTemplate.query(LOCK_PROGRESS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                rs -> {
+                    states.put(rs.getLong(1),
+                            new ProgressState(rs.getInt(2), EnrollmentStatus.valueOf(rs.getString(3))));
+                });
+        return states;
+    }
+
+    /**
+     * @return number of enrollments per status for the employee, in one GROUP BY
+     */
+    public Map<EnrollmentStatus, Integer> countByStatus(Long employeeId) {
+        Map<EnrollmentStatus, Integer> counts = new EnumMap<>(EnrollmentStatus.class);
+        jdbcTemplate.query(COUNT_BY_STATUS_SQL,
+                rs -> {
+                    counts.put(EnrollmentStatus.valueOf(rs.getString(1)), rs.getInt(2));
+                },
+                employeeId);
+        return counts;
+    }
+
+    /**
+     * Keyset page of the employee's enrollments; no OFFSET, so every page costs the same.
+     *
+     * @param afterDueDate  due date of the last row of the previous page (null if it had none)
+     * @param afterId       enrollment ID of the last row of the previous page, or null for the first page
+     * @param limit         rows to return
+     */
+    public List<EnrollmentDto> findMyCoursesPage(Long employeeId, LocalDate afterDueDate, Long afterId,
+                                                 boolean descending, int limit) {
+        List<Object> params = new ArrayList<>();
+        params.add(employeeId);
+        String keyset = "";
+        if (afterId != null && afterDueDate != null) {
+            keyset = AFTER_DUE_DATE_CURSOR.formatted(descending ? "<" : ">");
+            params.add(afterDueDate);
+            params.add(afterDueDate);
+            params.add(afterId);
+        } else if (afterId != null) {
+            keyset = AFTER_NO_DUE_DATE_CURSOR;
+            params.add(afterId);
+        }
+        params.add(limit);
+
+        String sql = MY_COURSES_PAGE_SQL.formatted(keyset, descending ? "DESC" : "ASC");
+        return jdbcTemplate.query(sql, (rs, rowNum) -> EnrollmentDto.builder()
+                .enrollmentId(rs.getLong(1))
+                .courseId(rs.getLong(2))
+                .courseTitle(rs.getString(3))
+                .courseDescription(rs.getString(4))
+                .courseThumbnail(rs.getString(5))
+                .courseInstructor(rs.getString(6))
+                .courseEstimatedDuration(rs.getObject(7, Integer.class))
+                .enrollmentType(EnrollmentType.valueOf(rs.getString(8)))
+                .enrollmentStatus(EnrollmentStatus.valueOf(rs.getString(9)))
+                .assignmentType(AssignmentType.valueOf(rs.getString(10)))
+                .enrolledDate(rs.getObject(11, LocalDate.class))
+                .dueDate(rs.getObject(12, LocalDate.class))
+                .completedDate(rs.getObject(13, LocalDate.class))
+                .progressPercentage(rs.getObject(14, Integer.class))
+                .build(), params.toArray());
+    }
+
+    /**
+     * Enrolls the given employees in a course with a single INSERT ... SELECT.
+     *
+     * @param employeeIds Primary keys of the employees (employees.id).
+     * @return number of enrollments created; the others were already enrolled
+     */
+    public int insertMissingEnrollments(Collection<Long> employeeIds, Long courseId, EnrollmentType enrollmentType,
+                                        AssignmentType assignmentType, LocalDate enrolledDate, LocalDate dueDate,
+                                        String assignedBy) {
+        if (employeeIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = employeeIds.toArray(Long[]::new);
+
+        return jdbcTemplate.update(INSERT_MISSING_SQL, ps -> {
+            ps.setLong(1, courseId);
+            ps.setString(2, enrollmentType.name());
+            ps.setString(3, EnrollmentStatus.NOT_STARTED.name());
+            ps.setString(4, assignmentType.name());
+            ps.setObject(5, enrolledDate, Types.DATE);
+            ps.setObject(6, dueDate, Types.DATE);
+            ps.setString(7, assignedBy);
+            ps.setArray(8, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setLong(9, courseId);
+        });
+    }
+}
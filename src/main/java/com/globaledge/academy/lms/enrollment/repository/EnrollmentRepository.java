@@ -4,10 +4,13 @@ package com.globaledge.academy.lms.enrollment.repository;
 import com.globaledge.academy.lms.enrollment.entity.Enrollment;
 import com.globaledge.academy.lms.enrollment.enums.EnrollmentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
@@ -21,6 +24,10 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     // Get all enrollments for an employee (by database ID)
     List<Enrollment> findByEmployee_Id(Long employeeId);
 
+    // Course IDs an employee is enrolled in, without loading the enrollments
+    @Query("SELECT e.course.courseId FROM Enrollment e WHERE e.employee.id = :employeeId")
+    Set<Long> findCourseIdsByEmployeeId(@Param("employeeId") Long employeeId);
+
     // Get all enrollments for an employee (by employeeId string)
     List<Enrollment> findByEmployee_EmployeeId(String employeeId);
 
@@ -1,10 +1,16 @@
 // 🎯 enrollment/service/EnrollmentService.java
 package com.globaledge.academy.lms.enrollment.service;
 
+import com.globaledge.academy.lms.course.enums.CourseCategory;
+import com.globaledge.academy.lms.enrollment.dto.AvailableCoursesDto;
+import com.globaledge.academy.lms.enrollment.dto.BulkEnrollmentResult;
 import com.globaledge.academy.lms.enrollment.dto.EnrollmentDto;
 import com.globaledge.academy.lms.enrollment.dto.MyCoursesDto;
+import com.globaledge.academy.lms.enrollment.dto.ProgressEventDto;
+import com.globaledge.academy.lms.enrollment.dto.ProgressSyncResult;
 import com.globaledge.academy.lms.enrollment.enums.EnrollmentType;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EnrollmentService {
@@ -17,25 +23,51 @@ public interface EnrollmentService {
                                      EnrollmentType enrollmentType, Integer dueDays);
 
     /**
-     * Self-enrollment (user clicks "Enroll" button)
+     * Create enrollments from an assignment rule for all matched employees at once.
+     * Employees already enrolled in the course are skipped.
+     * @param employeeIds primary keys of the matched employees
+     * @param assignedBy recorded on the created enrollments (e.g. the rule ID)
+     */
+    BulkEnrollmentResult createEnrollmentsFromRule(Collection<Long> employeeIds, Long courseId,
+                                                   EnrollmentType enrollmentType, Integer dueDays,
+                                                   String assignedBy);
+
+    /**
+     * Self-enrollment (user clicks "Enroll" button); idempotent, an employee who is already enrolled
+     * gets the existing enrollment back
      */
     EnrollmentDto selfEnroll(String employeeId, Long courseId);
 
     /**
-     * Get employee's enrolled courses with statistics
+     * Get one page of the employee's enrolled courses, sorted by due date, with status counts
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param direction asc or desc; enrollments without a due date come last either way
      */
-    MyCoursesDto getMyEnrolledCourses(String employeeId);
+    MyCoursesDto getMyEnrolledCourses(String employeeId, String cursor, int size, String direction);
 
     /**
-     * Get available courses for self-enrollment (published courses not enrolled)
+     * Get available courses for self-enrollment (published courses not enrolled), one page at a time
+     * @param category only courses of this category, or null for all
      */
-    List<EnrollmentDto> getAvailableCourses(String employeeId);
+    AvailableCoursesDto getAvailableCourses(String employeeId, CourseCategory category, int page, int size);
 
     /**
      * Update progress percentage (called when user completes module/content)
      */
     EnrollmentDto updateProgress(Long enrollmentId, Integer progressPercentage);
 
+    /**
+     * Accept a progress report from the player without writing it; buffered reports are coalesced
+     * per enrollment and written in batches (see ProgressUpdateBuffer)
+     */
+    void reportProgress(Long enrollmentId, Integer progressPercentage);
+
+    /**
+     * Apply a batch of progress events (e.g. replayed by a mobile client after being offline) in one
+     * transaction; events are deduplicated per enrollment and each gets a result
+     */
+    ProgressSyncResult syncProgress(List<ProgressEventDto> events);
+
     /**
      * Mark enrollment as completed
      */
@@ -1,25 +1,41 @@
 // 🎯 enrollment/service/impl/EnrollmentServiceImpl.java
 package com.globaledge.academy.lms.enrollment.service.impl;
 
+import com.globaledge.academy.lms.course.catalog.CatalogCourse;
+import com.globaledge.academy.lms.course.catalog.PublishedCourseCatalog;
 import com.globaledge.academy.lms.course.entity.Course;
+import com.globaledge.academy.lms.course.enums.CourseCategory;
 import com.globaledge.academy.lms.course.enums.CourseStatus;
 import com.globaledge.academy.lms.course.repository.CourseRepository;
+import com.globaledge.academy.lms.employee.cache.EmployeeIdCache;
 import com.globaledge.academy.lms.employee.entity.Employee;
 import com.globaledge.academy.lms.employee.exception.ResourceNotFoundException;
 import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
+import com.globaledge.academy.lms.enrollment.dto.AvailableCoursesDto;
+import com.globaledge.academy.lms.enrollment.dto.BulkEnrollmentResult;
 import com.globaledge.academy.lms.enrollment.dto.EnrollmentDto;
 import com.globaledge.academy.lms.enrollment.dto.MyCoursesDto;
+import com.globaledge.academy.lms.enrollment.dto.ProgressEventDto;
+import com.globaledge.academy.lms.enrollment.dto.ProgressEventResult;
+import com.globaledge.academy.lms.enrollment.dto.ProgressSyncResult;
 import com.globaledge.academy.lms.enrollment.entity.Enrollment;
 import com.globaledge.academy.lms.enrollment.enums.*;
+import com.globaledge.academy.lms.enrollment.progress.ProgressUpdateBuffer;
+import com.globaledge.academy.lms.enrollment.repository.EnrollmentJdbcRepository;
+import com.globaledge.academy.lms.enrollment.repository.EnrollmentJdbcRepository.ProgressState;
 import com.globaledge.academy.lms.enrollment.repository.EnrollmentRepository;
 import com.globaledge.academy.lms.enrollment.service.EnrollmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,8 +44,27 @@ import java.util.stream.Collectors;
 public class EnrollmentServiceImpl implements EnrollmentService {
 
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
     private final EmployeeRepository employeeRepository;
     private final CourseRepository courseRepository;
+    private final PublishedCourseCatalog publishedCourseCatalog;
+    private final ProgressUpdateBuffer progressUpdateBuffer;
+    private final EmployeeIdCache employeeIdCache;
+
+    @Value("${enrollment.my-courses.max-page-size:100}")
+    private int maxMyCoursesPageSize;
+
+    @Value("${enrollment.catalog.max-page-size:100}")
+    private int maxCatalogPageSize;
+
+    /**
+     * cache | query, see getAvailableCourses
+     */
+    @Value("${enrollment.catalog.mode:cache}")
+    private String catalogMode;
+
+    @Value("${enrollment.progress.sync.max-events:500}")
+    private int maxSyncEvents;
 
     @Override
     @Transactional
@@ -71,98 +106,171 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
     @Override
     @Transactional
-    public EnrollmentDto selfEnroll(String employeeId, Long courseId) {
-        log.info("Self-enrollment request: employee={}, course={}", employeeId, courseId);
+    public BulkEnrollmentResult createEnrollmentsFromRule(Collection<Long> employeeIds, Long courseId,
+                                                          EnrollmentType enrollmentType, Integer dueDays,
+                                                          String assignedBy) {
+        log.debug("Creating rule-based enrollments for {} employees in course {}", employeeIds.size(), courseId);
 
-        Employee employee = employeeRepository.findByEmployeeId(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + employeeId));
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found: " + courseId));
+        Set<Long> distinctIds = new HashSet<>(employeeIds);
+        LocalDate dueDate = dueDays != null ? LocalDate.now().plusDays(dueDays) : null;
 
-        // Check if course is published
-        if (course.getCourseStatus() != CourseStatus.PUBLISHED) {
-            throw new IllegalStateException("Cannot enroll in unpublished course");
-        }
+        // Already-enrolled employees are filtered out in the database, in the same statement
+        int created = enrollmentJdbcRepository.insertMissingEnrollments(
+                distinctIds, courseId, enrollmentType, AssignmentType.RULE_BASED,
+                LocalDate.now(), dueDate, assignedBy);
 
-        // Check if already enrolled
-        if (enrollmentRepository.existsByEmployee_IdAndCourse_CourseId(employee.getId(), courseId)) {
-            throw new IllegalStateException("Already enrolled in this course");
-        }
+        log.info("Created {} rule-based enrollments in course {} ({} already enrolled)",
+                created, courseId, distinctIds.size() - created);
 
-        Enrollment enrollment = Enrollment.builder()
-                .employee(employee)
-                .course(course)
-                .enrollmentType(EnrollmentType.OPTIONAL)
-                .enrollmentStatus(EnrollmentStatus.NOT_STARTED)
-                .assignmentType(AssignmentType.SELF_ENROLLED)
-                .enrolledDate(LocalDate.now())
-                .progressPercentage(0)
+        return BulkEnrollmentResult.builder()
+                .totalRequested(distinctIds.size())
+                .enrollmentsCreated(created)
+                .enrollmentsSkipped(distinctIds.size() - created)
                 .build();
+    }
 
-        Enrollment saved = enrollmentRepository.save(enrollment);
-        log.info("Self-enrollment successful: employee={}, course={}", employeeId, courseId);
+    @Override
+    @Transactional
+    public EnrollmentDto selfEnroll(String employeeId, Long courseId) {
+        log.info("Self-enrollment request: employee={}, course={}", employeeId, courseId);
+
+        Long employeePk = employeeIdCache.resolve(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + employeeId));
 
-        return convertToDto(saved);
+        // Published courses come from the shared catalog; the database is only asked on a miss
+        CatalogCourse course = publishedCourseCatalog.findCourse(courseId)
+                .or(() -> courseRepository.findCatalogCourse(courseId, CourseStatus.PUBLISHED))
+                .orElseThrow(() -> courseRepository.existsById(courseId)
+                        ? new IllegalStateException("Cannot enroll in unpublished course")
+                        : new ResourceNotFoundException("Course not found: " + courseId));
+
+        // Idempotent: a repeated or concurrent request gets the existing enrollment back
+        Optional<EnrollmentDto> created = enrollmentJdbcRepository.insertSelfEnrollment(
+                employeePk, courseId, LocalDate.now());
+        EnrollmentDto enrollment = created
+                .or(() -> enrollmentJdbcRepository.findEnrollment(employeePk, courseId))
+                .orElseThrow(() -> new IllegalStateException(
+                        "Enrollment of employee " + employeeId + " in course " + courseId + " not found after insert"));
+
+        if (created.isPresent()) {
+            log.info("Self-enrollment successful: employee={}, course={}", employeeId, courseId);
+        } else {
+            log.debug("Employee {} already enrolled in course {}", employeeId, courseId);
+        }
+        return withCourse(enrollment, course);
     }
 
     @Override
-    public MyCoursesDto getMyEnrolledCourses(String employeeId) {
+    public MyCoursesDto getMyEnrolledCourses(String employeeId, String cursor, int size, String direction) {
         log.debug("Fetching enrolled courses for employee: {}", employeeId);
 
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be >= 1");
+        }
+        int pageSize = Math.min(size, maxMyCoursesPageSize);
+        boolean descending = "desc".equalsIgnoreCase(direction);
+
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + employeeId));
 
-        List<Enrollment> enrollments = enrollmentRepository.findByEmployee_Id(employee.getId());
-
-        List<EnrollmentDto> enrolledCourses = enrollments.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        // Calculate statistics
-        long completed = enrollments.stream()
-                .filter(e -> e.getEnrollmentStatus() == EnrollmentStatus.COMPLETED)
-                .count();
-
-        long inProgress = enrollments.stream()
-                .filter(e -> e.getEnrollmentStatus() == EnrollmentStatus.IN_PROGRESS)
-                .count();
+        // Page: enrollment and course columns in one projection query, one row more to detect the last page
+        PagePosition after = cursor == null || cursor.isBlank() ? new PagePosition(null, null) : decodeCursor(cursor);
+        List<EnrollmentDto> enrolledCourses = enrollmentJdbcRepository.findMyCoursesPage(
+                employee.getId(), after.dueDate(), after.enrollmentId(), descending, pageSize + 1);
+        String nextCursor = null;
+        if (enrolledCourses.size() > pageSize) {
+            enrolledCourses = enrolledCourses.subList(0, pageSize);
+            EnrollmentDto last = enrolledCourses.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getDueDate(), last.getEnrollmentId());
+        }
 
-        long notStarted = enrollments.stream()
-                .filter(e -> e.getEnrollmentStatus() == EnrollmentStatus.NOT_STARTED)
-                .count();
+        // Statistics over all enrollments, in one GROUP BY
+        Map<EnrollmentStatus, Integer> counts = enrollmentJdbcRepository.countByStatus(employee.getId());
 
         return MyCoursesDto.builder()
                 .enrolledCourses(enrolledCourses)
-                .totalEnrolled(enrolledCourses.size())
-                .completedCount((int) completed)
-                .inProgressCount((int) inProgress)
-                .notStartedCount((int) notStarted)
+                .totalEnrolled(counts.values().stream().mapToInt(Integer::intValue).sum())
+                .completedCount(counts.getOrDefault(EnrollmentStatus.COMPLETED, 0))
+                .inProgressCount(counts.getOrDefault(EnrollmentStatus.IN_PROGRESS, 0))
+                .notStartedCount(counts.getOrDefault(EnrollmentStatus.NOT_STARTED, 0))
+                .overdueCount(counts.getOrDefault(EnrollmentStatus.OVERDUE, 0))
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    /**
+     * Last row of a my-courses page; the next page starts after it.
+     */
+    private record PagePosition(LocalDate dueDate, Long enrollmentId) {
+    }
+
+    /**
+     * Opaque cursor: the due date (empty if none) and enrollment ID of the last row of a page.
+     */
+    private String encodeCursor(LocalDate dueDate, Long enrollmentId) {
+        String position = (dueDate == null ? "" : dueDate.toString()) + "|" + enrollmentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PagePosition decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PagePosition(parts[0].isEmpty() ? null : LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * cache: the published catalog is shared and cached (PublishedCourseCatalog); per request only the
+     * employee's enrolled course IDs are read and subtracted.
+     * query: one NOT EXISTS anti-join query per request, paged in the database.
+     */
     @Override
-    public List<EnrollmentDto> getAvailableCourses(String employeeId) {
+    public AvailableCoursesDto getAvailableCourses(String employeeId, CourseCategory category, int page, int size) {
         log.debug("Fetching available courses for employee: {}", employeeId);
 
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be >= 0 and size >= 1");
+        }
+        int pageSize = Math.min(size, maxCatalogPageSize);
+
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found: " + employeeId));
 
-        // Get all published courses
-        List<Course> allPublished = courseRepository.findByCourseStatus(CourseStatus.PUBLISHED);
-
-        // Get already enrolled course IDs
-        List<Long> enrolledCourseIds = enrollmentRepository
-                .findByEmployee_Id(employee.getId())
-                .stream()
-                .map(e -> e.getCourse().getCourseId())
-                .collect(Collectors.toList());
+        List<CatalogCourse> pageCourses;
+        int totalAvailable;
+        if ("query".equalsIgnoreCase(catalogMode)) {
+            Page<CatalogCourse> result = courseRepository.findAvailableForEmployee(
+                    employee.getId(), CourseStatus.PUBLISHED, category, PageRequest.of(page, pageSize));
+            pageCourses = result.getContent();
+            totalAvailable = (int) result.getTotalElements();
+        } else {
+            Set<Long> enrolledCourseIds = enrollmentRepository.findCourseIdsByEmployeeId(employee.getId());
+            List<CatalogCourse> available = publishedCourseCatalog.getCourses().stream()
+                    .filter(c -> category == null || c.courseCategory() == category)
+                    .filter(c -> !enrolledCourseIds.contains(c.courseId()))
+                    .collect(Collectors.toList());
+            totalAvailable = available.size();
+            int from = (int) Math.min((long) page * pageSize, totalAvailable);
+            pageCourses = available.subList(from, Math.min(from + pageSize, totalAvailable));
+        }
 
-        // Filter out enrolled courses
-        return allPublished.stream()
-                .filter(c -> !enrolledCourseIds.contains(c.getCourseId()))
-                .map(this::convertCourseToDto)
-                .collect(Collectors.toList());
+        return AvailableCoursesDto.builder()
+                .courses(pageCourses.stream().map(this::convertCourseToDto).collect(Collectors.toList()))
+                .totalAvailable(totalAvailable)
+                .page(page)
+                .size(pageSize)
+                .totalPages((totalAvailable + pageSize - 1) / pageSize)
+                .build();
     }
 
     @Override
@@ -188,6 +296,171 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         return convertToDto(updated);
     }
 
+    @Override
+    public void reportProgress(Long enrollmentId, Integer progressPercentage) {
+        if (progressPercentage == null || progressPercentage < 0 || progressPercentage > 100) {
+            throw new IllegalArgumentException("Progress percentage must be between 0 and 100");
+        }
+        progressUpdateBuffer.add(enrollmentId, progressPercentage);
+    }
+
+    /**
+     * Applies a batch of progress events in one transaction:
+     *  1. Invalid events are rejected; of the valid events of one enrollment only the latest (by timestamp,
+     *     then position) is kept, carrying the highest progress of them so a replayed completion is never lost.
+     *  2. The enrollments are read and locked with one query.
+     *  3. Progress that is higher than the stored one is written with one batched UPDATE, which also applies
+     *     the IN_PROGRESS / COMPLETED transitions; the same transitions are mirrored here for the results.
+     */
+    @Override
+    @Transactional
+    public ProgressSyncResult syncProgress(List<ProgressEventDto> events) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("No progress events to sync");
+        }
+        if (events.size() > maxSyncEvents) {
+            throw new IllegalArgumentException(
+                    "Too many progress events: " + events.size() + " (max " + maxSyncEvents + ")");
+        }
+        log.debug("Syncing {} progress events", events.size());
+
+        ProgressEventResult[] results = new ProgressEventResult[events.size()];
+
+        // STEP 1: Validate and keep the latest event per enrollment
+        Map<Long, Integer> keptEventIndex = new LinkedHashMap<>();
+        Map<Long, Integer> highestProgress = new HashMap<>();
+        List<Integer> supersededIndexes = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            ProgressEventDto event = events.get(i);
+            String error = validateProgressEvent(event);
+            if (error != null) {
+                results[i] = ProgressEventResult.builder()
+                        .index(i)
+                        .enrollmentId(event == null ? null : event.getEnrollmentId())
+                        .outcome(ProgressEventOutcome.REJECTED)
+                        .message(error)
+                        .build();
+                continue;
+            }
+            Long enrollmentId = event.getEnrollmentId();
+            highestProgress.merge(enrollmentId, event.getProgressPercentage(), Math::max);
+            Integer keptIndex = keptEventIndex.get(enrollmentId);
+            if (keptIndex == null || !isBefore(event, events.get(keptIndex))) {
+                keptEventIndex.put(enrollmentId, i);
+                if (keptIndex != null) {
+                    supersededIndexes.add(keptIndex);
+                }
+            } else {
+                supersededIndexes.add(i);
+            }
+        }
+
+        // STEP 2: Current progress of all enrollments, locked for the rest of the transaction
+        Map<Long, ProgressState> states = enrollmentJdbcRepository.lockProgress(keptEventIndex.keySet());
+
+        // STEP 3: Decide per enrollment and write the increases in one statement
+        Map<Long, Integer> updates = new HashMap<>();
+        Map<Long, ProgressState> finalStates = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : keptEventIndex.entrySet()) {
+            Long enrollmentId = entry.getKey();
+            int index = entry.getValue();
+            ProgressState state = states.get(enrollmentId);
+            if (state == null) {
+                results[index] = ProgressEventResult.builder()
+                        .index(index)
+                        .enrollmentId(enrollmentId)
+                        .outcome(ProgressEventOutcome.NOT_FOUND)
+                        .message("Enrollment not found: " + enrollmentId)
+                        .build();
+                continue;
+            }
+
+            int progress = highestProgress.get(enrollmentId);
+            ProgressEventOutcome outcome = ProgressEventOutcome.UNCHANGED;
+            if (progress > state.progressPercentage()) {
+                updates.put(enrollmentId, progress);
+                state = new ProgressState(progress, statusAfterProgress(state.enrollmentStatus(), progress));
+                outcome = ProgressEventOutcome.APPLIED;
+            }
+            finalStates.put(enrollmentId, state);
+            results[index] = ProgressEventResult.builder()
+                    .index(index)
+                    .enrollmentId(enrollmentId)
+                    .outcome(outcome)
+                    .progressPercentage(state.progressPercentage())
+                    .enrollmentStatus(state.enrollmentStatus())
+                    .build();
+        }
+        enrollmentJdbcRepository.applyProgress(updates);
+
+        for (int index : supersededIndexes) {
+            Long enrollmentId = events.get(index).getEnrollmentId();
+            ProgressState state = finalStates.get(enrollmentId);
+            results[index] = ProgressEventResult.builder()
+                    .index(index)
+                    .enrollmentId(enrollmentId)
+                    .outcome(ProgressEventOutcome.SUPERSEDED)
+                    .progressPercentage(state == null ? null : state.progressPercentage())
+                    .enrollmentStatus(state == null ? null : state.enrollmentStatus())
+                    .message("Replaced by event " + keptEventIndex.get(enrollmentId))
+                    .build();
+        }
+
+        Map<ProgressEventOutcome, Integer> counts = new EnumMap<>(ProgressEventOutcome.class);
+        for (ProgressEventResult result : results) {
+            counts.merge(result.getOutcome(), 1, Integer::sum);
+        }
+        log.info("Progress sync: {} events, {} enrollments updated", events.size(), updates.size());
+
+        return ProgressSyncResult.builder()
+                .totalEvents(events.size())
+                .applied(counts.getOrDefault(ProgressEventOutcome.APPLIED, 0))
+                .unchanged(counts.getOrDefault(ProgressEventOutcome.UNCHANGED, 0))
+                .superseded(counts.getOrDefault(ProgressEventOutcome.SUPERSEDED, 0))
+                .failed(counts.getOrDefault(ProgressEventOutcome.NOT_FOUND, 0)
+                        + counts.getOrDefault(ProgressEventOutcome.REJECTED, 0))
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * @return the reason the event cannot be applied, or null if it is valid
+     */
+    private String validateProgressEvent(ProgressEventDto event) {
+        if (event == null || event.getEnrollmentId() == null) {
+            return "Enrollment ID is required";
+        }
+        Integer progress = event.getProgressPercentage();
+        if (progress == null || progress < 0 || progress > 100) {
+            return "Progress percentage must be between 0 and 100";
+        }
+        return null;
+    }
+
+    /**
+     * True if the event was recorded before the other one; events without a timestamp count as oldest,
+     * and of two events with the same timestamp the later one in the request wins.
+     */
+    private boolean isBefore(ProgressEventDto event, ProgressEventDto other) {
+        if (event.getTimestamp() == null) {
+            return other.getTimestamp() != null;
+        }
+        return other.getTimestamp() != null && event.getTimestamp().isBefore(other.getTimestamp());
+    }
+
+    /**
+     * The status transition of updateProgress, as also applied by EnrollmentJdbcRepository#applyProgress.
+     */
+    private EnrollmentStatus statusAfterProgress(EnrollmentStatus current, int progress) {
+        if (progress >= 100) {
+            return EnrollmentStatus.COMPLETED;
+        }
+        if (progress > 0 && current != EnrollmentStatus.COMPLETED) {
+            return EnrollmentStatus.IN_PROGRESS;
+        }
+        return current;
+    }
+
     @Override
     @Transactional
     public EnrollmentDto markAsCompleted(Long enrollmentId) {
@@ -226,14 +499,23 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .build();
     }
 
-    private EnrollmentDto convertCourseToDto(Course course) {
+    private EnrollmentDto withCourse(EnrollmentDto enrollment, CatalogCourse course) {
+        enrollment.setCourseTitle(course.title());
+        enrollment.setCourseDescription(course.description());
+        enrollment.setCourseInstructor(course.instructor());
+        enrollment.setCourseEstimatedDuration(course.estimatedDuration());
+        enrollment.setCourseThumbnail(course.thumbnailUrl());
+        return enrollment;
+    }
+
+    private EnrollmentDto convertCourseToDto(CatalogCourse course) {
         return EnrollmentDto.builder()
-                .courseId(course.getCourseId())
-                .courseTitle(course.getTitle())
-                .courseDescription(course.getDescription())
-                .courseThumbnail(course.getThumbnailUrl())
-                .courseInstructor(course.getInstructor())
-                .courseEstimatedDuration(course.getEstimatedDuration())
+                .courseId(course.courseId())
+                .courseTitle(course.title())
+                .courseDescription(course.description())
+                .courseInstructor(course.instructor())
+                .courseEstimatedDuration(course.estimatedDuration())
+                .courseThumbnail(course.thumbnailUrl())
                 .build();
     }
 }
\ No newline at end of file
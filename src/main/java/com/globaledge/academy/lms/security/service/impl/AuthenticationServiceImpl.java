@@ -9,6 +9,7 @@ import com.globaledge.academy.lms.security.service.RefreshTokenService;
 import com.globaledge.academy.lms.user.entity.RefreshToken;
 import com.globaledge.academy.lms.user.entity.User;
 import com.globaledge.academy.lms.user.repository.UserRepository;
+import com.globaledge.academy.lms.user.service.ActivationTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -31,6 +32,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
+    private final ActivationTokenService activationTokenService;
 
     @Override
     @Transactional
@@ -50,8 +52,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 throw new LockedException("Your account is disabled. Please contact administrator.");
             }
 
-            // Step 4: Verify password manually to give specific error
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            // Step 4: Verify password manually to give specific error.
+            // Users provisioned in bulk may still hold an activation token instead of a password hash.
+            boolean activationToken = activationTokenService.isActivationToken(user.getPassword());
+            boolean credentialsMatch = activationToken
+                    ? activationTokenService.matches(request.getPassword(), user)
+                    : passwordEncoder.matches(request.getPassword(), user.getPassword());
+            if (!credentialsMatch) {
                 // Increment failed login attempts
                 user.incrementFailedAttempts();
 
@@ -67,6 +74,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 throw new BadCredentialsException("Invalid password");
             }
 
+            if (activationToken && activationTokenService.isExpired(user)) {
+                log.warn("Expired activation token used by user: {}", user.getUsername());
+                throw new BadCredentialsException("Your temporary password has expired. Please use 'forgot password' to set a new one.");
+            }
+
             // Step 5: Password is correct - reset failed attempts
             user.resetFailedAttempts();
             userRepository.save(user);
@@ -58,4 +58,18 @@ public class BulkUserCreationSummary {
         this.failures.add(new FailureDetail(employeeId, email, reason));
         this.usersFailed++;
     }
+
+    /**
+     * Adds the counters and details of another summary (e.g. from a later import chunk) to this one.
+     */
+    public void merge(BulkUserCreationSummary other) {
+        if (other == null) return;
+        this.totalEmployees += other.getTotalEmployees();
+        this.usersCreated += other.getUsersCreated();
+        this.usersSkipped += other.getUsersSkipped();
+        this.usersFailed += other.getUsersFailed();
+        this.createdUsernames.addAll(other.getCreatedUsernames());
+        this.skippedEmployeeIds.addAll(other.getSkippedEmployeeIds());
+        this.failures.addAll(other.getFailures());
+    }
 }
\ No newline at end of file
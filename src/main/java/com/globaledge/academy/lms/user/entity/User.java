@@ -63,6 +63,9 @@ public class User {
 
     private LocalDateTime accountLockedUntil;
 
+    // Set while the password column holds an activation token instead of a password hash
+    private LocalDateTime activationExpiresAt;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,109 @@
+package com.globaledge.academy.lms.user.repository;
+
+import com.globaledge.academy.lms.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set-based JDBC operations on the users table for bulk provisioning (employee import).
+ *
+ * User uses IDENTITY ids, which disables Hibernate insert batching, so bulk inserts go
+ * through JDBC batches here. PostgreSQL specific (array parameters).
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (username, email, password, user_role, employee_id, account_locked, account_enabled,
+                               password_expired, failed_login_attempts, activation_expires_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())
+            """;
+
+    private static final String FIND_EXISTING_EMAILS_SQL =
+            "SELECT email FROM users WHERE email = ANY(?)";
+
+    private static final String FIND_EXISTING_EMPLOYEE_IDS_SQL =
+            "SELECT employee_id FROM users WHERE employee_id = ANY(?)";
+
+    /**
+     * Every username equal to one of the bases or starting with it (base1, base2, base_ab12cd34 ...).
+     * Bases only contain [a-z0-9.], so they never carry LIKE wildcards.
+     */
+    private static final String FIND_USERNAMES_WITH_PREFIX_SQL = """
+            SELECT u.username
+              FROM users u
+             WHERE u.username LIKE ANY (SELECT b.base || '%' FROM unnest(?) AS b(base))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    /**
+     * @return The emails that already belong to a user.
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findStrings(FIND_EXISTING_EMAILS_SQL, emails);
+    }
+
+    /**
+     * @return The employee IDs that already have a user.
+     */
+    public Set<String> findExistingEmployeeIds(Collection<String> employeeIds) {
+        return findStrings(FIND_EXISTING_EMPLOYEE_IDS_SQL, employeeIds);
+    }
+
+    /**
+     * @return All existing usernames that could collide with a username generated from one of the bases.
+     */
+    public Set<String> findUsernamesWithPrefix(Collection<String> baseUsernames) {
+        return findStrings(FIND_USERNAMES_WITH_PREFIX_SQL, baseUsernames);
+    }
+
+    /**
+     * Inserts users as JDBC batches. Password hashes (or activation token hashes) must already be set.
+     */
+    public void batchInsert(List<User> users) {
+        if (users.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, batchSize, this::bindInsertColumns);
+    }
+
+    private Set<String> findStrings(String sql, Collection<String> values) {
+        Set<String> found = new HashSet<>();
+        if (values.isEmpty()) {
+            return found;
+        }
+        String[] array = values.toArray(String[]::new);
+        jdbcTemplate.query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", array)),
+                rs -> {
+                    found.add(rs.getString(1));
+                });
+        return found;
+    }
+
+    private void bindInsertColumns(PreparedStatement ps, User u) throws SQLException {
+        ps.setString(1, u.getUsername());
+        ps.setString(2, u.getEmail());
+        ps.setString(3, u.getPassword());
+        ps.setString(4, u.getUserRole().name());
+        ps.setString(5, u.getEmployeeId());
+        ps.setBoolean(6, u.getAccountLocked());
+        ps.setBoolean(7, u.getAccountEnabled());
+        ps.setBoolean(8, u.getPasswordExpired());
+        ps.setInt(9, u.getFailedLoginAttempts());
+        ps.setObject(10, u.getActivationExpiresAt(), Types.TIMESTAMP);
+    }
+}
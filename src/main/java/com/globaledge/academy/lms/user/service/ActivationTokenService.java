@@ -0,0 +1,43 @@
+package com.globaledge.academy.lms.user.service;
+
+import com.globaledge.academy.lms.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-limited activation tokens for users provisioned in bulk.
+ *
+ * Instead of a BCrypt hash of a temporary password, the user's password column holds a
+ * keyed HMAC of the token, marked with a prefix. The user logs in with the token as
+ * temporary password and is then forced to set a real password, which replaces the token.
+ * The token stays valid until the first password change or its expiry, whichever comes first
+ * (the password change itself authenticates with it).
+ */
+public interface ActivationTokenService {
+
+    /**
+     * @return The value to store in the password column for the given plain token.
+     */
+    String hash(String token);
+
+    /**
+     * @return Expiry time for a token issued now.
+     */
+    LocalDateTime newExpiry();
+
+    /**
+     * @return true if the stored credential is an activation token rather than a password hash.
+     */
+    boolean isActivationToken(String storedCredential);
+
+    /**
+     * @return true if the user's activation token has expired.
+     */
+    boolean isExpired(User user);
+
+    /**
+     * Checks a plain token against the user's stored activation token (constant-time).
+     * Does not check expiry.
+     */
+    boolean matches(String token, User user);
+}
@@ -0,0 +1,86 @@
+package com.globaledge.academy.lms.user.service.impl;
+
+import com.globaledge.academy.lms.user.entity.User;
+import com.globaledge.academy.lms.user.service.ActivationTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 based activation tokens. Hashing takes microseconds instead of the
+ * ~250 ms of BCrypt at strength 12, which is safe here because the token is random,
+ * high-entropy and short-lived (valid until the first password change or expiry).
+ *
+ * The HMAC key is its own secret (user.provisioning.activation.secret), never the JWT signing key,
+ * so rotating or leaking one does not affect the other. It is required with
+ * credential-mode=activation-token; without it, stored activation tokens never match.
+ */
+@Service
+public class ActivationTokenServiceImpl implements ActivationTokenService {
+
+    private static final String PREFIX = "{activation}";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final long validityHours;
+
+    public ActivationTokenServiceImpl(
+            @Value("${user.provisioning.activation.secret:}") String secret,
+            @Value("${user.provisioning.credential-mode:password}") String credentialMode,
+            @Value("${user.provisioning.activation.validity-hours:72}") long validityHours) {
+        if (secret.isBlank() && "activation-token".equalsIgnoreCase(credentialMode)) {
+            throw new IllegalStateException(
+                    "user.provisioning.activation.secret must be set when user.provisioning.credential-mode=activation-token");
+        }
+        this.key = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.validityHours = validityHours;
+    }
+
+    @Override
+    public String hash(String token) {
+        if (key == null) {
+            throw new IllegalStateException("user.provisioning.activation.secret is not set");
+        }
+        try {
+            // Mac instances are not thread-safe; creating one is cheap
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(token.getBytes(StandardCharsets.UTF_8));
+            return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not compute activation token hash", e);
+        }
+    }
+
+    @Override
+    public LocalDateTime newExpiry() {
+        return LocalDateTime.now().plusHours(validityHours);
+    }
+
+    @Override
+    public boolean isActivationToken(String storedCredential) {
+        return storedCredential != null && storedCredential.startsWith(PREFIX);
+    }
+
+    @Override
+    public boolean isExpired(User user) {
+        return user.getActivationExpiresAt() == null || LocalDateTime.now().isAfter(user.getActivationExpiresAt());
+    }
+
+    @Override
+    public boolean matches(String token, User user) {
+        if (token == null || key == null || !isActivationToken(user.getPassword())) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                hash(token).getBytes(StandardCharsets.UTF_8),
+                user.getPassword().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,27 +6,65 @@ import com.globaledge.academy.lms.employee.entity.Employee;
 import com.globaledge.academy.lms.user.dto.BulkUserCreationSummary;
 import com.globaledge.academy.lms.user.entity.User;
 import com.globaledge.academy.lms.user.enums.UserRole;
-import com.globaledge.academy.lms.user.repository.UserRepository;
+import com.globaledge.academy.lms.user.repository.UserJdbcRepository;
+import com.globaledge.academy.lms.user.service.ActivationTokenService;
 import com.globaledge.academy.lms.user.service.BulkUserCreationService;
 import com.globaledge.academy.lms.user.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk provisioning of user accounts for imported employees.
+ *
+ * Per batch:
+ *  1. Existing emails, employee IDs and usernames that share a prefix with the generated
+ *     usernames are loaded with three set-based queries.
+ *  2. Usernames are allocated in memory against that snapshot.
+ *  3. Temporary passwords are BCrypt-hashed in parallel on the passwordHashingExecutor, or, with
+ *     user.provisioning.credential-mode=activation-token, stored as time-limited activation tokens
+ *     hashed with a fast keyed hash (see ActivationTokenService).
+ *  4. Users are inserted with JDBC batches.
+ *  5. Welcome emails are sent once the surrounding transaction has committed.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BulkUserCreationServiceImpl implements BulkUserCreationService {
 
-    private final UserRepository userRepository;
+    private static final int MAX_USERNAME_SUFFIX = 1000;
+
+    private final UserJdbcRepository userJdbcRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordGenerator passwordGenerator;
     private final UsernameGenerator usernameGenerator;
     private final NotificationService notificationService;
+    private final ThreadPoolTaskExecutor passwordHashingExecutor;
+    private final ActivationTokenService activationTokenService;
+
+    /**
+     * password | activation-token
+     */
+    @Value("${user.provisioning.credential-mode:password}")
+    private String credentialMode;
+
+    /**
+     * A user about to be created, with the plain temporary password for the welcome email.
+     */
+    private record PendingUser(Employee employee, String username, String temporaryPassword) {
+    }
 
     @Override
     @Transactional
@@ -37,9 +75,47 @@ public class BulkUserCreationServiceImpl implements BulkUserCreationService {
                 .totalEmployees(employees.size())
                 .build();
 
+        // STEP 1: Pre-load everything the uniqueness checks need, in three queries
+        Set<String> existingEmails = userJdbcRepository.findExistingEmails(
+                employees.stream().map(Employee::getEmail).filter(Objects::nonNull).collect(Collectors.toSet()));
+        Set<String> existingEmployeeIds = userJdbcRepository.findExistingEmployeeIds(
+                employees.stream().map(Employee::getEmployeeId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        Set<String> baseUsernames = new HashSet<>();
+        for (Employee employee : employees) {
+            try {
+                baseUsernames.add(usernameGenerator.generateUsername(employee.getFirstName(), employee.getLastName()));
+            } catch (IllegalArgumentException e) {
+                // Reported below, when the employee is processed
+            }
+        }
+        Set<String> takenUsernames = userJdbcRepository.findUsernamesWithPrefix(baseUsernames);
+
+        // STEP 2: Decide per employee, allocating usernames in memory
+        List<PendingUser> pendingUsers = new ArrayList<>();
         for (Employee employee : employees) {
             try {
-                createUserForEmployee(employee, summary);
+                if (existingEmails.contains(employee.getEmail())) {
+                    log.debug("User already exists with email: {}", employee.getEmail());
+                    summary.addSkippedEmployee(employee.getEmployeeId());
+                    continue;
+                }
+                if (existingEmployeeIds.contains(employee.getEmployeeId())) {
+                    log.debug("User already exists for employee ID: {}", employee.getEmployeeId());
+                    summary.addSkippedEmployee(employee.getEmployeeId());
+                    continue;
+                }
+
+                String baseUsername = usernameGenerator.generateUsername(
+                        employee.getFirstName(),
+                        employee.getLastName()
+                );
+                String username = allocateUsername(baseUsername, takenUsernames);
+
+                // Later rows of the same batch must see this user as existing
+                existingEmails.add(employee.getEmail());
+                existingEmployeeIds.add(employee.getEmployeeId());
+                pendingUsers.add(new PendingUser(employee, username, passwordGenerator.generateSecurePassword()));
             } catch (Exception e) {
                 log.error("Failed to create user for employee {}: {}",
                         employee.getEmployeeId(), e.getMessage(), e);
@@ -48,88 +124,111 @@ public class BulkUserCreationServiceImpl implements BulkUserCreationService {
             }
         }
 
+        if (!pendingUsers.isEmpty()) {
+            // STEP 3: Hash in parallel (BCrypt is deliberately slow, ~0.25s per hash at strength 12),
+            // or store activation tokens, which only need an HMAC
+            boolean activationTokens = "activation-token".equalsIgnoreCase(credentialMode);
+            List<String> hashes = activationTokens ? hashActivationTokens(pendingUsers) : hashPasswords(pendingUsers);
+            LocalDateTime activationExpiresAt = activationTokens ? activationTokenService.newExpiry() : null;
+
+            // STEP 4: Insert all users with JDBC batches
+            List<User> users = new ArrayList<>(pendingUsers.size());
+            for (int i = 0; i < pendingUsers.size(); i++) {
+                PendingUser pending = pendingUsers.get(i);
+                users.add(User.builder()
+                        .username(pending.username())
+                        .email(pending.employee().getEmail())
+                        .password(hashes.get(i))
+                        .employeeId(pending.employee().getEmployeeId())
+                        .userRole(UserRole.USER)
+                        .accountEnabled(true)
+                        .accountLocked(false)
+                        .passwordExpired(true) // Force password change on first login
+                        .failedLoginAttempts(0)
+                        .activationExpiresAt(activationExpiresAt)
+                        .build());
+            }
+            userJdbcRepository.batchInsert(users);
+            pendingUsers.forEach(pending -> summary.addCreatedUsername(pending.username()));
+
+            // STEP 5: Welcome emails with the temporary password, only for users that were really committed
+            sendWelcomeEmailsAfterCommit(pendingUsers);
+        }
+
         log.info("Bulk user creation completed. Created: {}, Skipped: {}, Failed: {}",
                 summary.getUsersCreated(), summary.getUsersSkipped(), summary.getUsersFailed());
 
         return summary;
     }
 
-    private void createUserForEmployee(Employee employee, BulkUserCreationSummary summary) {
-        // Check if user already exists by email
-        if (userRepository.existsByEmail(employee.getEmail())) {
-            log.debug("User already exists with email: {}", employee.getEmail());
-            summary.addSkippedEmployee(employee.getEmployeeId());
-            return;
+    /**
+     * The base username if free, else base1..base999, else the base with a random suffix.
+     * The chosen username is added to the taken set.
+     */
+    private String allocateUsername(String baseUsername, Set<String> takenUsernames) {
+        String username = baseUsername;
+        int suffix = 1;
+        while (takenUsernames.contains(username) && suffix < MAX_USERNAME_SUFFIX) {
+            username = baseUsername + suffix;
+            suffix++;
         }
 
-        // Check if user already exists by employeeId
-        if (userRepository.existsByEmployeeId(employee.getEmployeeId())) {
-            log.debug("User already exists for employee ID: {}", employee.getEmployeeId());
-            summary.addSkippedEmployee(employee.getEmployeeId());
-            return;
+        if (takenUsernames.contains(username)) {
+            // If we've tried 1000 variations, use UUID suffix
+            do {
+                username = baseUsername + "_" + UUID.randomUUID().toString().substring(0, 8);
+            } while (takenUsernames.contains(username));
         }
 
-        // Generate username
-        String baseUsername = usernameGenerator.generateUsername(
-                employee.getFirstName(),
-                employee.getLastName()
-        );
-
-        String username = ensureUniqueUsername(baseUsername);
-
-        // Generate temporary password
-        String temporaryPassword = passwordGenerator.generateSecurePassword();
-
-        // Create user
-        User user = User.builder()
-                .username(username)
-                .email(employee.getEmail())
-                .password(passwordEncoder.encode(temporaryPassword))
-                .employeeId(employee.getEmployeeId())
-                .userRole(UserRole.USER)
-                .accountEnabled(true)
-                .accountLocked(false)
-                .passwordExpired(true) // Force password change on first login
-                .failedLoginAttempts(0)
-                .build();
-
-        userRepository.save(user);
-        log.info("Created user '{}' for employee '{}'", username, employee.getEmployeeId());
+        takenUsernames.add(username);
+        return username;
+    }
 
-        // Send welcome email with temporary password (async)
+    private List<String> hashPasswords(List<PendingUser> pendingUsers) {
+        List<CompletableFuture<String>> futures = pendingUsers.stream()
+                .map(pending -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(pending.temporaryPassword()), passwordHashingExecutor))
+                .collect(Collectors.toList());
         try {
-            notificationService.sendWelcomeEmail(
-                    employee.getEmail(),
-                    username,
-                    temporaryPassword
-            );
-        } catch (Exception e) {
-            log.error("Failed to send welcome email to {}: {}",
-                    employee.getEmail(), e.getMessage());
-            // Don't fail the user creation if email fails
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Password hashing failed: " + e.getCause().getMessage(), e.getCause());
         }
+    }
 
-        summary.addCreatedUsername(username);
+    private List<String> hashActivationTokens(List<PendingUser> pendingUsers) {
+        return pendingUsers.stream()
+                .map(pending -> activationTokenService.hash(pending.temporaryPassword()))
+                .collect(Collectors.toList());
     }
 
-    private String ensureUniqueUsername(String baseUsername) {
-        if (!userRepository.existsByUsername(baseUsername)) {
-            return baseUsername;
+    private void sendWelcomeEmailsAfterCommit(List<PendingUser> pendingUsers) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendWelcomeEmails(pendingUsers);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendWelcomeEmails(pendingUsers);
+            }
+        });
+    }
 
-        // Try with numeric suffix
-        int suffix = 1;
-        String username;
-        do {
-            username = baseUsername + suffix;
-            suffix++;
-        } while (userRepository.existsByUsername(username) && suffix < 1000);
-
-        if (suffix >= 1000) {
-            // If we've tried 1000 variations, use UUID suffix
-            return baseUsername + "_" + java.util.UUID.randomUUID().toString().substring(0, 8);
+    private void sendWelcomeEmails(List<PendingUser> pendingUsers) {
+        for (PendingUser pending : pendingUsers) {
+            // Send welcome email with temporary password (async)
+            try {
+                notificationService.sendWelcomeEmail(
+                        pending.employee().getEmail(),
+                        pending.username(),
+                        pending.temporaryPassword()
+                );
+            } catch (Exception e) {
+                log.error("Failed to send welcome email to {}: {}",
+                        pending.employee().getEmail(), e.getMessage());
+                // Don't fail the user creation if email fails
+            }
         }
-
-        return username;
     }
 }
@@ -9,6 +9,7 @@ import com.globaledge.academy.lms.user.exception.InvalidPasswordResetTokenExcept
 import com.globaledge.academy.lms.user.exception.UserNotFoundException;
 import com.globaledge.academy.lms.user.repository.PasswordResetTokenRepository;
 import com.globaledge.academy.lms.user.repository.UserRepository;
+import com.globaledge.academy.lms.user.service.ActivationTokenService;
 import com.globaledge.academy.lms.user.service.NotificationService;
 import com.globaledge.academy.lms.user.service.PasswordService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class PasswordServiceImpl implements PasswordService {
     private final PasswordEncoder passwordEncoder;
     private final PasswordStrengthValidator passwordStrengthValidator;
     private final NotificationService notificationService;
+    private final ActivationTokenService activationTokenService;
 
     @Override
     @Transactional
@@ -38,8 +40,8 @@ public class PasswordServiceImpl implements PasswordService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        // Verify current password
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        // Verify current password (or the activation token of a user provisioned in bulk)
+        if (!matchesCurrentCredential(currentPassword, user)) {
             throw new IllegalArgumentException("Current password is incorrect");
         }
 
@@ -50,13 +52,14 @@ public class PasswordServiceImpl implements PasswordService {
         }
 
         // Check if new password is same as current
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+        if (matchesCurrentCredential(newPassword, user)) {
             throw new IllegalArgumentException("New password must be different from current password");
         }
 
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setPasswordExpired(false);
+        user.setActivationExpiresAt(null);
         user.setLastPasswordChangeDate(LocalDateTime.now());
         userRepository.save(user);
 
@@ -113,6 +116,7 @@ public class PasswordServiceImpl implements PasswordService {
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setPasswordExpired(false);
+        user.setActivationExpiresAt(null);
         user.setLastPasswordChangeDate(LocalDateTime.now());
         userRepository.save(user);
 
@@ -125,4 +129,15 @@ public class PasswordServiceImpl implements PasswordService {
         // Send confirmation email
         notificationService.sendPasswordChangedConfirmation(user.getEmail());
     }
+
+    /**
+     * An activation token only counts while it has not expired; it is replaced (consumed)
+     * as soon as the user sets a password.
+     */
+    private boolean matchesCurrentCredential(String rawCredential, User user) {
+        if (activationTokenService.isActivationToken(user.getPassword())) {
+            return activationTokenService.matches(rawCredential, user) && !activationTokenService.isExpired(user);
+        }
+        return passwordEncoder.matches(rawCredential, user.getPassword());
+    }
 }
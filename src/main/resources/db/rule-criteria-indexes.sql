@@ -0,0 +1,30 @@
+-- Indexes for the course assignment rule criteria (see RuleCriteriaIndexInitializer, which checks them at startup).
+--
+-- Run once per database, outside a transaction (CREATE INDEX CONCURRENTLY keeps employees writable):
+--   psql -d <database> -f src/main/resources/db/rule-criteria-indexes.sql
+--
+-- The script is idempotent. A build that is interrupted leaves an INVALID index, which IF NOT EXISTS keeps;
+-- drop such an index (DROP INDEX CONCURRENTLY <name>) and run the script again.
+-- CREATE EXTENSION needs a role that may create extensions.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Free-text attributes: lower(column) for EQUALS / NOT_EQUALS / IN, trigrams for CONTAINS
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_lower_department ON employees (lower(department));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_trgm_department ON employees USING gin (lower(department) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_lower_designation ON employees (lower(designation));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_trgm_designation ON employees USING gin (lower(designation) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_lower_office_location ON employees (lower(office_location));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_trgm_office_location ON employees USING gin (lower(office_location) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_lower_domain ON employees (lower(domain));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_trgm_domain ON employees USING gin (lower(domain) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_lower_sub_domain ON employees (lower(sub_domain));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_trgm_sub_domain ON employees USING gin (lower(sub_domain) gin_trgm_ops);
+
+-- Enum and date attributes
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_work_mode ON employees (work_mode);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_employment_type ON employees (employment_type);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_gender ON employees (gender);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_status ON employees (status);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_date_of_joining ON employees (date_of_joining);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employee_date_of_birth ON employees (date_of_birth);
@@ -0,0 +1,90 @@
+package com.globaledge.academy.lms.assignment.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExecutionFrequencyTest {
+
+    private static final LocalTime TWO_AM = LocalTime.of(2, 0);
+
+    @Test
+    void firstExecutionIsTheNextSlot() {
+        assertEquals(at(2024, 3, 10, 2, 0),
+                ExecutionFrequency.MONTHLY.firstExecutionAfter(at(2024, 3, 10, 1, 0), TWO_AM));
+        assertEquals(at(2024, 3, 11, 2, 0),
+                ExecutionFrequency.WEEKLY.firstExecutionAfter(at(2024, 3, 10, 2, 0), TWO_AM));
+        assertNull(ExecutionFrequency.IMMEDIATE.firstExecutionAfter(at(2024, 3, 10, 1, 0), TWO_AM));
+    }
+
+    @Test
+    void dailyRunsEveryDayAtTheScheduledTime() {
+        LocalDateTime anchor = at(2024, 3, 1, 2, 0);
+        assertEquals(at(2024, 3, 11, 2, 0),
+                ExecutionFrequency.DAILY.nextExecutionAfter(anchor, at(2024, 3, 10, 2, 0), TWO_AM));
+        // Late run (next tick): the next slot is still tomorrow at 02:00
+        assertEquals(at(2024, 3, 11, 2, 0),
+                ExecutionFrequency.DAILY.nextExecutionAfter(anchor, at(2024, 3, 10, 3, 0), TWO_AM));
+        // Manual run before the slot of the day: that slot stays
+        assertEquals(at(2024, 3, 10, 2, 0),
+                ExecutionFrequency.DAILY.nextExecutionAfter(anchor, at(2024, 3, 10, 1, 0), TWO_AM));
+    }
+
+    @Test
+    void weeklyKeepsTheAnchorDayOfWeek() {
+        LocalDateTime monday = at(2024, 3, 4, 2, 0);
+        assertEquals(at(2024, 3, 11, 2, 0),
+                ExecutionFrequency.WEEKLY.nextExecutionAfter(monday, at(2024, 3, 4, 2, 0), TWO_AM));
+        // Two days late: back on Monday, not a week after the late run
+        assertEquals(at(2024, 3, 18, 2, 0),
+                ExecutionFrequency.WEEKLY.nextExecutionAfter(monday, at(2024, 3, 13, 9, 30), TWO_AM));
+    }
+
+    @Test
+    void monthlyKeepsTheAnchorDayOfMonthAcrossShortMonths() {
+        LocalDateTime anchor = at(2024, 1, 31, 2, 0);
+        LocalDateTime next = ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, anchor, TWO_AM);
+        assertEquals(at(2024, 2, 29, 2, 0), next);
+        next = ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, next, TWO_AM);
+        assertEquals(at(2024, 3, 31, 2, 0), next);
+        next = ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, next, TWO_AM);
+        assertEquals(at(2024, 4, 30, 2, 0), next);
+        next = ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, next, TWO_AM);
+        assertEquals(at(2024, 5, 31, 2, 0), next);
+        // Non-leap February
+        assertEquals(at(2025, 2, 28, 2, 0),
+                ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, at(2025, 1, 31, 2, 0), TWO_AM));
+    }
+
+    @Test
+    void monthlyLateRunDoesNotShiftTheSchedule() {
+        LocalDateTime anchor = at(2024, 1, 15, 2, 0);
+        // Ran five days late: the next run is still on the 15th
+        assertEquals(at(2024, 3, 15, 2, 0),
+                ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, at(2024, 2, 20, 2, 0), TWO_AM));
+        // Ran one hour late on the 15th: next month, no second run this month
+        assertEquals(at(2024, 4, 15, 2, 0),
+                ExecutionFrequency.MONTHLY.nextExecutionAfter(anchor, at(2024, 3, 15, 3, 0), TWO_AM));
+    }
+
+    @Test
+    void scheduledTimeChangeAppliesToTheAnchor() {
+        assertEquals(at(2024, 3, 11, 4, 30), ExecutionFrequency.WEEKLY.nextExecutionAfter(
+                at(2024, 3, 4, 2, 0), at(2024, 3, 4, 4, 30), LocalTime.of(4, 30)));
+    }
+
+    @Test
+    void nonPeriodicFrequenciesHaveNoNextExecution() {
+        LocalDateTime now = at(2024, 3, 10, 2, 0);
+        assertNull(ExecutionFrequency.IMMEDIATE.nextExecutionAfter(now, now, TWO_AM));
+        assertNull(ExecutionFrequency.ON_NEW_EMPLOYEE.nextExecutionAfter(now, now, TWO_AM));
+    }
+
+    private static LocalDateTime at(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+}
@@ -0,0 +1,173 @@
+package com.globaledge.academy.lms.assignment.serviceImpl;
+
+import com.globaledge.academy.lms.assignment.engine.CompiledCriteria;
+import com.globaledge.academy.lms.assignment.engine.CompiledCriterion;
+import com.globaledge.academy.lms.assignment.engine.CompiledCriterion.Kind;
+import com.globaledge.academy.lms.assignment.engine.CompiledRule;
+import com.globaledge.academy.lms.assignment.engine.EmployeeSnapshot;
+import com.globaledge.academy.lms.assignment.engine.SnapshotRuleCompiler;
+import com.globaledge.academy.lms.assignment.enums.FieldOperator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The in-memory engine (SnapshotRuleCompiler over an EmployeeSnapshot) must match the same employees as
+ * the Criteria predicates of RuleEvaluationServiceImpl. The database side is modelled here with the SQL
+ * semantics of those predicates: lower(column) compared to the value, CONTAINS as LIKE with the pattern
+ * of {@link RuleEvaluationServiceImpl#containsPattern}, and NULL never matching.
+ */
+class RuleEngineAgreementTest {
+
+    private static final String[] DEPARTMENTS = {
+            "R&D_1", "R&DX1", "100% Remote", "1000 Remote", "Sales", "sales", "Back\\Office", "_", "%", null
+    };
+
+    private static final LocalDate JOINED = LocalDate.of(2024, 1, 31);
+
+    private final EmployeeSnapshot snapshot = buildSnapshot();
+
+    @Test
+    void containsTreatsLikeMetacharactersLiterally() {
+        assertEquals(List.of(1L), matches(text(FieldOperator.CONTAINS, "d_1")));
+        assertEquals(List.of(3L), matches(text(FieldOperator.CONTAINS, "0%")));
+        assertEquals(List.of(7L), matches(text(FieldOperator.CONTAINS, "k\\o")));
+    }
+
+    @Test
+    void textOperatorsAgreeWithTheDatabasePredicates() {
+        List<String> values = List.of("d_1", "r&dx1", "0%", "%", "_", "sales", "remote", "k\\o", "x");
+        for (FieldOperator operator : List.of(FieldOperator.EQUALS, FieldOperator.NOT_EQUALS,
+                FieldOperator.CONTAINS, FieldOperator.NOT_CONTAINS)) {
+            for (String value : values) {
+                CompiledCriterion criterion = text(operator, value);
+                assertEquals(databaseMatches(criterion), matches(criterion), operator + " '" + value + "'");
+            }
+        }
+        for (FieldOperator operator : List.of(FieldOperator.IN, FieldOperator.NOT_IN)) {
+            CompiledCriterion criterion = new CompiledCriterion("department", Kind.TEXT, operator, null,
+                    Set.of("sales", "%", "r&d_1"), null, null);
+            assertEquals(databaseMatches(criterion), matches(criterion), operator.toString());
+        }
+    }
+
+    @Test
+    void dateOperatorsAgreeWithTheDatabasePredicates() {
+        for (FieldOperator operator : List.of(FieldOperator.EQUALS, FieldOperator.NOT_EQUALS,
+                FieldOperator.GREATER_THAN, FieldOperator.LESS_THAN,
+                FieldOperator.GREATER_THAN_EQUAL, FieldOperator.LESS_THAN_EQUAL)) {
+            CompiledCriterion criterion = new CompiledCriterion("dateOfJoining", Kind.DATE, operator,
+                    null, null, null, JOINED.plusDays(4));
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < DEPARTMENTS.length; i++) {
+                int cmp = joined(i).compareTo(criterion.date());
+                boolean match = switch (operator) {
+                    case EQUALS -> cmp == 0;
+                    case NOT_EQUALS -> cmp != 0;
+                    case GREATER_THAN -> cmp > 0;
+                    case LESS_THAN -> cmp < 0;
+                    case GREATER_THAN_EQUAL -> cmp >= 0;
+                    default -> cmp <= 0;
+                };
+                if (match) {
+                    expected.add(id(i));
+                }
+            }
+            assertEquals(expected, matches(criterion), operator.toString());
+        }
+    }
+
+    @Test
+    void criteriaAreCombinedWithAndOrOr() {
+        List<CompiledCriterion> criteria = List.of(text(FieldOperator.CONTAINS, "remote"),
+                text(FieldOperator.NOT_CONTAINS, "%"));
+        assertEquals(List.of(4L), matches(new CompiledCriteria(null, 0, false, criteria)));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L),
+                matches(new CompiledCriteria(null, 0, true, criteria)));
+    }
+
+    @Test
+    void rangeComparisonsOnTextAreLeftToTheDatabase() {
+        CompiledCriteria criteria = new CompiledCriteria(null, 0, false,
+                List.of(new CompiledCriterion("department", Kind.TEXT, FieldOperator.GREATER_THAN,
+                        "M", null, null, null)));
+        assertTrue(SnapshotRuleCompiler.compile(criteria).isEmpty());
+    }
+
+    private List<Long> matches(CompiledCriterion criterion) {
+        return matches(new CompiledCriteria(null, 0, false, List.of(criterion)));
+    }
+
+    private List<Long> matches(CompiledCriteria criteria) {
+        CompiledRule rule = SnapshotRuleCompiler.compile(criteria).orElseThrow();
+        return snapshot.employeeIds(rule.evaluate(snapshot));
+    }
+
+    private static List<Long> databaseMatches(CompiledCriterion criterion) {
+        Predicate<String> test = switch (criterion.operator()) {
+            case EQUALS -> v -> v.equals(criterion.text());
+            case NOT_EQUALS -> v -> !v.equals(criterion.text());
+            case CONTAINS -> v -> like(v, RuleEvaluationServiceImpl.containsPattern(criterion.text()));
+            case NOT_CONTAINS -> v -> !like(v, RuleEvaluationServiceImpl.containsPattern(criterion.text()));
+            case IN -> v -> criterion.texts().contains(v);
+            case NOT_IN -> v -> !criterion.texts().contains(v);
+            default -> throw new IllegalArgumentException(criterion.operator().toString());
+        };
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS.length; i++) {
+            // lower(NULL) compared to anything is NULL, which never matches
+            if (DEPARTMENTS[i] != null && test.test(DEPARTMENTS[i].toLowerCase(Locale.ROOT))) {
+                ids.add(id(i));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * SQL LIKE with '\' as escape character.
+     */
+    private static boolean like(String value, String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+            } else if (c == '%') {
+                regex.append(".*");
+            } else if (c == '_') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(value).matches();
+    }
+
+    private static CompiledCriterion text(FieldOperator operator, String lowerValue) {
+        return new CompiledCriterion("department", Kind.TEXT, operator, lowerValue, null, null, null);
+    }
+
+    private static EmployeeSnapshot buildSnapshot() {
+        EmployeeSnapshot.Builder builder = new EmployeeSnapshot.Builder();
+        int textColumns = EmployeeSnapshot.TEXT_COLUMNS.size();
+        for (int i = 0; i < DEPARTMENTS.length; i++) {
+            String[] texts = new String[textColumns];
+            texts[0] = DEPARTMENTS[i];
+            builder.upsert(id(i), texts, new LocalDate[]{joined(i), null});
+        }
+        return builder.build();
+    }
+
+    private static long id(int row) {
+        return row + 1;
+    }
+
+    private static LocalDate joined(int row) {
+        return JOINED.plusDays(row);
+    }
+}
@@ -0,0 +1,171 @@
+package com.globaledge.academy.lms.employee.imports.validator;
+
+import com.globaledge.academy.lms.employee.imports.constants.EmployeeImportExcelHeaders;
+import com.globaledge.academy.lms.employee.imports.dto.EmployeeImportLogEntryDTO;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportRecord;
+import com.globaledge.academy.lms.employee.imports.model.EmployeeImportValidationResult;
+import com.globaledge.academy.lms.employee.imports.parser.impl.StreamingXssfExcelParser;
+import com.globaledge.academy.lms.employee.imports.validator.chain.*;
+import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares sequential and parallel validation on a generated .xlsx file.
+ *
+ * The 100k-row benchmark only runs with -Dbenchmark=true:
+ *   mvn test -Dtest=EmployeeImportValidatorBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+class EmployeeImportValidatorBenchmarkTest {
+
+    private static final String[] HEADERS = {
+            EmployeeImportExcelHeaders.IMPORT_TYPE, EmployeeImportExcelHeaders.EMPLOYEE_ID,
+            EmployeeImportExcelHeaders.FIRST_NAME, EmployeeImportExcelHeaders.LAST_NAME,
+            EmployeeImportExcelHeaders.EMAIL, EmployeeImportExcelHeaders.DEPARTMENT,
+            EmployeeImportExcelHeaders.DESIGNATION, EmployeeImportExcelHeaders.DATE_OF_JOINING,
+            EmployeeImportExcelHeaders.PHONE_NUMBER, EmployeeImportExcelHeaders.DATE_OF_BIRTH,
+            EmployeeImportExcelHeaders.GENDER, EmployeeImportExcelHeaders.EMPLOYMENT_TYPE,
+            EmployeeImportExcelHeaders.MANAGER_ID, EmployeeImportExcelHeaders.WORK_MODE
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parallelValidationMatchesSequential() throws Exception {
+        List<EmployeeImportRecord> records = readRecords(writeFile(5_000));
+
+        List<EmployeeImportValidationResult> sequential = newValidator("sequential").validateRecords(records, employeeIds(records));
+        List<EmployeeImportValidationResult> parallel = newValidator("parallel").validateRecords(records, employeeIds(records));
+
+        assertEquals(describe(sequential), describe(parallel));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark100kRows() throws Exception {
+        List<EmployeeImportRecord> records = readRecords(writeFile(100_000));
+        Set<String> ids = employeeIds(records);
+        EmployeeImportValidator sequentialValidator = newValidator("sequential");
+        EmployeeImportValidator parallelValidator = newValidator("parallel");
+
+        // Warm-up so both modes run JIT-compiled code
+        for (int i = 0; i < 3; i++) {
+            sequentialValidator.validateRecords(records, ids);
+            parallelValidator.validateRecords(records, ids);
+        }
+
+        long sequentialNanos = time(() -> sequentialValidator.validateRecords(records, ids));
+        long parallelNanos = time(() -> parallelValidator.validateRecords(records, ids));
+
+        log.info("Validation of {} rows: sequential {} ms, parallel {} ms ({} threads), speedup {}x",
+                records.size(), sequentialNanos / 1_000_000, parallelNanos / 1_000_000,
+                Runtime.getRuntime().availableProcessors(), String.format("%.2f", (double) sequentialNanos / parallelNanos));
+    }
+
+    private EmployeeImportValidator newValidator(String mode) {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.findExistingEmployeeIds(any())).thenReturn(Set.of("MGR-1"));
+
+        EmployeeImportValidator validator = new EmployeeImportValidator(List.of(
+                new StrategyCodeValidator(),
+                new MandatoryFieldValidator(),
+                new EmailFormatValidator(),
+                new DateFormatValidator(),
+                new EnumFieldValidator(),
+                new ManagerReferenceValidator(employeeRepository),
+                new OptionalFieldValidator()));
+        ReflectionTestUtils.setField(validator, "mode", mode);
+        ReflectionTestUtils.setField(validator, "parallelism", 0);
+        ReflectionTestUtils.setField(validator, "parallelThreshold", 500);
+        validator.init();
+        return validator;
+    }
+
+    /**
+     * Mix of valid rows and rows with errors/warnings, so every validator has work to do.
+     */
+    private Path writeFile(int rows) throws Exception {
+        Path file = tempDir.resolve("employees-" + rows + ".xlsx");
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100)) {
+            Sheet sheet = workbook.createSheet("Employees");
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c).setCellValue(HEADERS[c]);
+            }
+            for (int i = 1; i <= rows; i++) {
+                String[] values = {
+                        i % 97 == 0 ? "999" : "103",
+                        "EMP-" + i,
+                        "First" + i,
+                        i % 53 == 0 ? "" : "Last" + i,
+                        i % 41 == 0 ? "broken-email" : "user" + i + "@example.com",
+                        "Engineering",
+                        "Engineer",
+                        i % 31 == 0 ? "31/31/2020" : "2020-01-15",
+                        i % 7 == 0 ? "12345" : "9876543210",
+                        i % 5 == 0 ? "" : "1990-05-20",
+                        i % 3 == 0 ? "OTHER_VALUE" : "MALE",
+                        "FULL_TIME",
+                        i % 11 == 0 ? "MGR-1" : (i % 13 == 0 ? "UNKNOWN-" + i : "EMP-" + Math.max(1, i - 1)),
+                        "REMOTE"
+                };
+                Row row = sheet.createRow(i);
+                for (int c = 0; c < values.length; c++) {
+                    row.createCell(c).setCellValue(values[c]);
+                }
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+            workbook.dispose();
+        }
+        return file;
+    }
+
+    private List<EmployeeImportRecord> readRecords(Path file) throws Exception {
+        try (Stream<EmployeeImportRecord> records = new StreamingXssfExcelParser().streamFile(file)) {
+            return records.collect(Collectors.toList());
+        }
+    }
+
+    private Set<String> employeeIds(List<EmployeeImportRecord> records) {
+        return records.stream().map(EmployeeImportRecord::getEmployeeId).collect(Collectors.toSet());
+    }
+
+    private List<String> describe(List<EmployeeImportValidationResult> results) {
+        return results.stream()
+                .map(r -> r.getRecord().getRowNumber() + " " + messages(r.getErrors()) + " " + messages(r.getWarnings()))
+                .collect(Collectors.toList());
+    }
+
+    private String messages(List<EmployeeImportLogEntryDTO> logs) {
+        return logs.stream().map(EmployeeImportLogEntryDTO::getMessage).collect(Collectors.joining("|"));
+    }
+
+    private long time(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,135 @@
+package com.globaledge.academy.lms.enrollment;
+
+import com.globaledge.academy.lms.course.entity.Course;
+import com.globaledge.academy.lms.course.enums.CourseCategory;
+import com.globaledge.academy.lms.course.enums.CourseStatus;
+import com.globaledge.academy.lms.course.repository.CourseRepository;
+import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
+import com.globaledge.academy.lms.enrollment.dto.EnrollmentDto;
+import com.globaledge.academy.lms.enrollment.enums.AssignmentType;
+import com.globaledge.academy.lms.enrollment.enums.EnrollmentType;
+import com.globaledge.academy.lms.enrollment.repository.EnrollmentJdbcRepository;
+import com.globaledge.academy.lms.media.entity.Media;
+import com.globaledge.academy.lms.media.enums.MediaType;
+import com.globaledge.academy.lms.media.repository.MediaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs the hand-written SQL of {@link EnrollmentJdbcRepository} against the schema Hibernate creates, so a
+ * column that does not exist fails here instead of in production.
+ *
+ * Needs the PostgreSQL database of application.properties, so it only runs with -Ddbtest=true:
+ *   mvn test -Dtest=EnrollmentJdbcRepositoryTest -Ddbtest=true
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "dbtest", matches = "true")
+class EnrollmentJdbcRepositoryTest {
+
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private Long employeePk;
+    private Long mediaId;
+
+    @AfterEach
+    void cleanUp() {
+        if (employeePk != null) {
+            jdbcTemplate.update("DELETE FROM enrollments WHERE employee_id = ?", employeePk);
+            jdbcTemplate.update("DELETE FROM courses WHERE title LIKE ?", "JDBC test " + runId + "%");
+            employeeRepository.deleteById(employeePk);
+        }
+        if (mediaId != null) {
+            mediaRepository.deleteById(mediaId);
+        }
+    }
+
+    @Test
+    void myCoursesPageReturnsCourseColumnsAndThumbnail() {
+        employeePk = createEmployee();
+        mediaId = createThumbnail();
+        Long withThumbnail = createPublishedCourse("JDBC test " + runId + " A", mediaId);
+        Long withoutThumbnail = createPublishedCourse("JDBC test " + runId + " B", null);
+        enrollmentJdbcRepository.insertMissingEnrollments(List.of(employeePk), withThumbnail,
+                EnrollmentType.MANDATORY, AssignmentType.MANUAL, LocalDate.now(), LocalDate.now().plusDays(7), "test");
+        enrollmentJdbcRepository.insertMissingEnrollments(List.of(employeePk), withoutThumbnail,
+                EnrollmentType.MANDATORY, AssignmentType.MANUAL, LocalDate.now(), null, "test");
+
+        List<EnrollmentDto> page = enrollmentJdbcRepository.findMyCoursesPage(employeePk, null, null, false, 10);
+
+        assertEquals(2, page.size());
+        assertEquals(withThumbnail, page.get(0).getCourseId());
+        assertEquals("JDBC test " + runId + " A", page.get(0).getCourseTitle());
+        assertEquals("https://thumbnails.test/" + runId + ".png", page.get(0).getCourseThumbnail());
+        // No due date sorts last, and a course without thumbnail media still comes back
+        assertEquals(withoutThumbnail, page.get(1).getCourseId());
+        assertNull(page.get(1).getCourseThumbnail());
+
+        // The keyset cursor of the first row skips it
+        List<EnrollmentDto> next = enrollmentJdbcRepository.findMyCoursesPage(employeePk,
+                page.get(0).getDueDate(), page.get(0).getEnrollmentId(), false, 10);
+        assertEquals(1, next.size());
+        assertEquals(withoutThumbnail, next.get(0).getCourseId());
+    }
+
+    private Long createEmployee() {
+        String employeeId = "JT" + runId;
+        return employeeRepository.save(Employee.builder()
+                .employeeId(employeeId)
+                .firstName("Jdbc")
+                .lastName("Test")
+                .email(employeeId.toLowerCase() + "@jdbctest.local")
+                .department("Engineering")
+                .designation("Engineer")
+                .dateOfJoining(LocalDate.now())
+                .build()).getId();
+    }
+
+    private Long createThumbnail() {
+        return mediaRepository.save(Media.builder()
+                .originalFileName("thumbnail.png")
+                .s3Key("thumbnails/" + runId + ".png")
+                .s3Url("https://thumbnails.test/" + runId + ".png")
+                .mediaType(MediaType.IMAGE)
+                .contentType("image/png")
+                .fileSize(1L)
+                .build()).getMediaId();
+    }
+
+    private Long createPublishedCourse(String title, Long thumbnailMediaId) {
+        Course course = new Course();
+        course.setTitle(title);
+        course.setCourseCategory(CourseCategory.TECHNICAL);
+        course.setCourseStatus(CourseStatus.PUBLISHED);
+        course.setThumbnailMediaId(thumbnailMediaId);
+        course.setPublishedAt(LocalDateTime.now());
+        course.setCreatedAt(LocalDateTime.now());
+        return courseRepository.save(course).getCourseId();
+    }
+}
@@ -0,0 +1,138 @@
+package com.globaledge.academy.lms.enrollment;
+
+import com.globaledge.academy.lms.course.entity.Course;
+import com.globaledge.academy.lms.course.enums.CourseCategory;
+import com.globaledge.academy.lms.course.enums.CourseStatus;
+import com.globaledge.academy.lms.course.repository.CourseRepository;
+import com.globaledge.academy.lms.employee.entity.Employee;
+import com.globaledge.academy.lms.employee.repository.EmployeeRepository;
+import com.globaledge.academy.lms.enrollment.dto.EnrollmentDto;
+import com.globaledge.academy.lms.enrollment.service.EnrollmentService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 1,000 parallel self-enrollments in one course, released at the same moment. Every employee is
+ * enrolled several times at once (repeated clicks), which used to race into the unique constraint.
+ *
+ * Needs the PostgreSQL database of application.properties, so it only runs with -Dloadtest=true:
+ *   mvn test -Dtest=SelfEnrollmentLoadTest -Dloadtest=true
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class SelfEnrollmentLoadTest {
+
+    private static final int REQUESTS = 1_000;
+    private static final int EMPLOYEES = 250;
+    private static final int THREADS = 100;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private Long courseId;
+    private List<String> employeeIds;
+
+    @AfterEach
+    void cleanUp() {
+        if (courseId != null) {
+            jdbcTemplate.update("DELETE FROM enrollments WHERE course_id = ?", courseId);
+            courseRepository.deleteById(courseId);
+        }
+        if (employeeIds != null) {
+            jdbcTemplate.update("DELETE FROM employees WHERE employee_id LIKE ?", "LT" + runId + "%");
+        }
+    }
+
+    @Test
+    void parallelSelfEnrollmentsNeverFail() throws Exception {
+        courseId = createPublishedCourse();
+        employeeIds = createEmployees();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EnrollmentDto>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String employeeId = employeeIds.get(i % EMPLOYEES);
+            futures.add(executor.submit(() -> {
+                start.await();
+                return enrollmentService.selfEnroll(employeeId, courseId);
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        List<Throwable> errors = new ArrayList<>();
+        Map<String, Set<Long>> enrollmentIdsByEmployee = new HashMap<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            try {
+                EnrollmentDto enrollment = futures.get(i).get(60, TimeUnit.SECONDS);
+                enrollmentIdsByEmployee.computeIfAbsent(employeeIds.get(i % EMPLOYEES), id -> new HashSet<>())
+                        .add(enrollment.getEnrollmentId());
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            }
+        }
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        executor.shutdown();
+
+        log.info("{} self-enrollments ({} employees, {} threads) in {} ms, {} errors",
+                REQUESTS, EMPLOYEES, THREADS, elapsedMs, errors.size());
+
+        assertTrue(errors.isEmpty(), () -> "Self-enrollment failed: " + errors.get(0));
+        // One enrollment per employee, and every request of an employee got that same enrollment
+        assertEquals(EMPLOYEES, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM enrollments WHERE course_id = ?", Integer.class, courseId));
+        enrollmentIdsByEmployee.values().forEach(ids -> assertEquals(1, ids.size()));
+    }
+
+    private Long createPublishedCourse() {
+        Course course = new Course();
+        course.setTitle("Load test " + runId);
+        course.setCourseCategory(CourseCategory.TECHNICAL);
+        course.setCourseStatus(CourseStatus.PUBLISHED);
+        course.setPublishedAt(LocalDateTime.now());
+        course.setCreatedAt(LocalDateTime.now());
+        return courseRepository.save(course).getCourseId();
+    }
+
+    private List<String> createEmployees() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String employeeId = "LT" + runId + "-" + i;
+            employees.add(Employee.builder()
+                    .employeeId(employeeId)
+                    .firstName("Load")
+                    .lastName("Test" + i)
+                    .email(employeeId.toLowerCase() + "@loadtest.local")
+                    .department("Engineering")
+                    .designation("Engineer")
+                    .dateOfJoining(LocalDate.now())
+                    .build());
+        }
+        return employeeRepository.saveAll(employees).stream().map(Employee::getEmployeeId).toList();
+    }
+}
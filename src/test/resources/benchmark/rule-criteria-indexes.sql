@@ -0,0 +1,79 @@
+-- Query plans and latencies of rule criteria queries, without and with the indexes of
+-- RuleCriteriaIndexInitializer, on 500k generated employees.
+--
+-- Runs in its own schema (rule_bench) and drops it at the end; the application tables are not touched.
+--   psql -d <database> -f src/test/resources/benchmark/rule-criteria-indexes.sql
+--
+-- The statements are shaped like the SQL Hibernate renders for RuleEvaluationServiceImpl
+-- (lower(column) comparisons, LIKE '%value%' for CONTAINS). Compare the "Execution Time" lines and
+-- the Seq Scan vs Index/Bitmap Index Scan nodes of the two runs.
+
+\timing on
+SET client_min_messages = warning;
+
+DROP SCHEMA IF EXISTS rule_bench CASCADE;
+CREATE SCHEMA rule_bench;
+SET search_path = rule_bench, public;
+
+CREATE TABLE employees (
+    id              bigserial PRIMARY KEY,
+    employee_id     varchar(50)  NOT NULL UNIQUE,
+    department      varchar(100) NOT NULL,
+    designation     varchar(100) NOT NULL,
+    office_location varchar(100),
+    domain          varchar(100),
+    sub_domain      varchar(100),
+    work_mode       varchar(20),
+    employment_type varchar(20),
+    gender          varchar(20),
+    status          varchar(20),
+    date_of_joining date NOT NULL,
+    date_of_birth   date
+);
+
+INSERT INTO employees (employee_id, department, designation, office_location, domain, sub_domain,
+                       work_mode, employment_type, gender, status, date_of_joining, date_of_birth)
+SELECT 'EMP-' || g,
+       (ARRAY['Engineering', 'Sales', 'Finance', 'Human Resources', 'Marketing', 'Operations',
+              'Legal', 'Customer Success', 'Research', 'Platform Engineering'])[1 + g % 10] || ' ' || (g % 50),
+       (ARRAY['Engineer', 'Senior Engineer', 'Manager', 'Analyst', 'Director', 'Consultant'])[1 + g % 6],
+       (ARRAY['Bengaluru', 'Pune', 'Hyderabad', 'London', 'Berlin', 'New York', 'Singapore'])[1 + g % 7],
+       'domain-' || (g % 200),
+       'sub-domain-' || (g % 1000),
+       (ARRAY['REMOTE', 'HYBRID', 'ONSITE'])[1 + g % 3],
+       (ARRAY['FULL_TIME', 'PART_TIME', 'CONTRACT', 'INTERN'])[1 + g % 4],
+       (ARRAY['MALE', 'FEMALE', 'OTHER'])[1 + g % 3],
+       CASE WHEN g % 20 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END,
+       DATE '2005-01-01' + (g % 7000),
+       DATE '1960-01-01' + (g % 15000)
+  FROM generate_series(1, 500000) AS g;
+
+ANALYZE employees;
+
+\echo '=== Without rule criteria indexes ==='
+\ir rule-criteria-queries.sql
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_employee_lower_department ON employees (lower(department));
+CREATE INDEX idx_employee_trgm_department ON employees USING gin (lower(department) gin_trgm_ops);
+CREATE INDEX idx_employee_lower_designation ON employees (lower(designation));
+CREATE INDEX idx_employee_trgm_designation ON employees USING gin (lower(designation) gin_trgm_ops);
+CREATE INDEX idx_employee_lower_office_location ON employees (lower(office_location));
+CREATE INDEX idx_employee_trgm_office_location ON employees USING gin (lower(office_location) gin_trgm_ops);
+CREATE INDEX idx_employee_lower_domain ON employees (lower(domain));
+CREATE INDEX idx_employee_trgm_domain ON employees USING gin (lower(domain) gin_trgm_ops);
+CREATE INDEX idx_employee_lower_sub_domain ON employees (lower(sub_domain));
+CREATE INDEX idx_employee_trgm_sub_domain ON employees USING gin (lower(sub_domain) gin_trgm_ops);
+CREATE INDEX idx_employee_work_mode ON employees (work_mode);
+CREATE INDEX idx_employee_employment_type ON employees (employment_type);
+CREATE INDEX idx_employee_gender ON employees (gender);
+CREATE INDEX idx_employee_status ON employees (status);
+CREATE INDEX idx_employee_date_of_joining ON employees (date_of_joining);
+CREATE INDEX idx_employee_date_of_birth ON employees (date_of_birth);
+ANALYZE employees;
+
+\echo '=== With rule criteria indexes ==='
+\ir rule-criteria-queries.sql
+
+RESET search_path;
+DROP SCHEMA rule_bench CASCADE;
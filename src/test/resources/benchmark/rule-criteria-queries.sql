@@ -0,0 +1,24 @@
+-- Rule criteria queries measured by rule-criteria-indexes.sql (run twice, before and after the indexes).
+
+\echo '--- EQUALS department'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees WHERE lower(department) = 'engineering 20';
+
+\echo '--- IN sub_domain'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees WHERE lower(sub_domain) IN ('sub-domain-1', 'sub-domain-42', 'sub-domain-999');
+
+\echo '--- CONTAINS designation (selective)'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees WHERE lower(designation) LIKE '%director%';
+
+\echo '--- CONTAINS sub_domain (rare substring)'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees WHERE lower(sub_domain) LIKE '%domain-99%';
+
+\echo '--- EQUALS department AND date_of_joining >'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees
+ WHERE lower(department) = 'sales 11' AND date_of_joining > DATE '2020-01-01';
+
+\echo '--- IN work_mode (enum, compared as constants)'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees WHERE work_mode IN ('REMOTE', 'HYBRID') AND status = 'INACTIVE';
+
+\echo '--- EQUALS department OR CONTAINS office_location'
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM employees
+ WHERE lower(department) = 'legal 6' OR lower(office_location) LIKE '%singa%';